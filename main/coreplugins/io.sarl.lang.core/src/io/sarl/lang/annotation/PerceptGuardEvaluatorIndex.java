@@ -0,0 +1,66 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.sarl.lang.core.Event;
+
+/**
+ * Annotation for marking a type with the list of the functions that are annotated with {@link PerceptGuardEvaluator}
+ * and that are declared into this type.
+ *
+ * <p>This annotation is generated by the SARL compiler in order to avoid to the run-time environment
+ * to explore the declared methods of the type by reflection. The two attributes of the annotation
+ * are parallel arrays: the {@code i}-th guard evaluator is named {@code methods()[i]} and it is
+ * evaluating the events of type {@code events()[i]}.
+ *
+ * <p>A type that was generated by the SARL compiler and that is not marked with this annotation
+ * does not declare any guard evaluator. The types that are not generated by the SARL compiler must
+ * be explored by reflection.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = ElementType.TYPE)
+public @interface PerceptGuardEvaluatorIndex {
+
+	/** Replies the types of the events that are evaluated by the guard evaluators.
+	 *
+	 * @return the event types, in the same order as {@link #methods()}.
+	 */
+	Class<? extends Event>[] events();
+
+	/** Replies the names of the guard evaluators that are declared into the annotated type.
+	 *
+	 * @return the names of the functions, in the same order as {@link #events()}.
+	 */
+	String[] methods();
+
+}
@@ -190,6 +190,13 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 	@Override
 	@Pure
 	protected AtomicSkillReference $getSkill(Class<? extends Capacity> capacity) {
+		// Lock-free path: the skill was already created and it is still attached to this container.
+		// Because the skills are created on demand, e.g. the built-in skills that are provided by the SRE,
+		// this path is the one that is used by the most of the calls.
+		final AtomicSkillReference existingReference = $getSkillRepository().get(capacity);
+		if (existingReference != null && existingReference.get() != null) {
+			return existingReference;
+		}
 		// CAUTION: We must create the default skill in a thread-safe process.
 		// To do so, the creation must be done into the ConcurrentHahMap function, and not
 		// into the code of the AbstractSkillContainer.
@@ -229,7 +236,7 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 				final Constructor<? extends Skill> cons = type.getConstructor();
 				cons.setAccessible(true);
 				final Skill skillInstance = cons.newInstance();
-				$attachOwner(skill);
+				$attachOwner(skillInstance);
 				return new AtomicSkillReference(skillInstance);
 			} catch (Throwable exception) {
 				throw new UnimplementedCapacityException(capacity, getID(), exception);
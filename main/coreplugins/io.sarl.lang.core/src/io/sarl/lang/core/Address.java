@@ -45,6 +45,10 @@ public class Address extends SRESpecificDataContainer implements Serializable, C
 
 	private final SpaceID spaceId;
 
+	/** Cached hash code, or zero if it is not yet computed.
+	 */
+	private transient int hash;
+
 	/**
 	 * Create an address based on the specified identifier.
 	 *
@@ -81,9 +85,15 @@ public class Address extends SRESpecificDataContainer implements Serializable, C
 	@Override
 	@Pure
 	public int hashCode() {
-		int result = 1;
-		result = 31 * result + ((this.participantId == null) ? 0 : this.participantId.hashCode());
-		result = 31 * result + ((this.spaceId == null) ? 0 : this.spaceId.hashCode());
+		// The address is immutable; the hash code is computed once because
+		// the addresses are used as keys on the event dispatching path.
+		int result = this.hash;
+		if (result == 0) {
+			result = 1;
+			result = 31 * result + ((this.participantId == null) ? 0 : this.participantId.hashCode());
+			result = 31 * result + ((this.spaceId == null) ? 0 : this.spaceId.hashCode());
+			this.hash = result;
+		}
 		return result;
 	}
 
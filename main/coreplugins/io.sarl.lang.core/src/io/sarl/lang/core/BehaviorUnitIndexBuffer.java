@@ -0,0 +1,149 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import io.sarl.lang.annotation.PrivateAPI;
+
+/** Buffer of indexes of behavior units that is filled up by the generated guard evaluators.
+ *
+ * <p>The guard evaluators that are generated by the SARL compiler into the function
+ * {@link IBehaviorGuardEvaluatorReceiver#$evaluateBehaviorGuards(Object, BehaviorUnitIndexBuffer)}
+ * add into this buffer the index of each behavior unit for which the guard is evaluated to {@code true}.
+ * The run-time environment invokes the matching behavior units by calling
+ * {@link IBehaviorGuardEvaluatorReceiver#$invokeBehaviorUnit(int, Object)} with each of these indexes.
+ * No object is allocated by the guard evaluation, and the buffer is reusable across the
+ * evaluations.
+ *
+ * <p>This buffer is not thread-safe. It is supposed to be confined into a single thread, e.g.
+ * with a {@link ThreadLocal}. Because a guard evaluation may cause another guard evaluation on the same
+ * thread, a caller should use the buffer as a stack: it remembers the size of the buffer before the evaluation
+ * with {@link #size()}, reads the indexes that are added after this size, and restores the size of the
+ * buffer with {@link #truncate(int)}.
+ *
+ * <p>The indexes of the behavior units are unique for the lifetime of the virtual machine. Each generated type
+ * reserves a range of indexes with {@link #reserveIndexes(int)} when it is initialized. Consequently, the indexes
+ * of a type never collide with the indexes of its super types.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ * @privateapi
+ */
+@PrivateAPI
+public final class BehaviorUnitIndexBuffer {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private static final AtomicInteger INDEX_COUNTER = new AtomicInteger();
+
+	private int[] indexes;
+
+	private int size;
+
+	/** Construct a buffer with a default capacity.
+	 */
+	public BehaviorUnitIndexBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/** Construct a buffer.
+	 *
+	 * @param initialCapacity the initial capacity of the buffer.
+	 */
+	public BehaviorUnitIndexBuffer(int initialCapacity) {
+		this.indexes = new int[Math.max(1, initialCapacity)];
+	}
+
+	/** Reserve a range of behavior unit indexes.
+	 *
+	 * @param count the number of indexes to reserve.
+	 * @return the first index of the reserved range.
+	 */
+	public static int reserveIndexes(int count) {
+		assert count >= 0;
+		return INDEX_COUNTER.getAndAdd(count);
+	}
+
+	/** Add the index of a behavior unit to execute.
+	 *
+	 * @param index the index of the behavior unit.
+	 */
+	public void add(int index) {
+		if (this.size >= this.indexes.length) {
+			this.indexes = Arrays.copyOf(this.indexes, this.indexes.length * 2);
+		}
+		this.indexes[this.size] = index;
+		++this.size;
+	}
+
+	/** Replies the index at the given position in the buffer.
+	 *
+	 * @param position the position in the buffer.
+	 * @return the index of the behavior unit.
+	 */
+	@Pure
+	public int get(int position) {
+		assert position >= 0 && position < this.size;
+		return this.indexes[position];
+	}
+
+	/** Replies the number of indexes in the buffer.
+	 *
+	 * @return the number of indexes.
+	 */
+	@Pure
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies if the buffer is empty.
+	 *
+	 * @return {@code true} if the buffer contains no index.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Remove the indexes that are after the given size.
+	 *
+	 * @param newSize the new size of the buffer.
+	 */
+	public void truncate(int newSize) {
+		assert newSize >= 0 && newSize <= this.size;
+		this.size = newSize;
+	}
+
+	/** Remove all the indexes.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+}
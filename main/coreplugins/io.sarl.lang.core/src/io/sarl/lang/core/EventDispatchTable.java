@@ -0,0 +1,146 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import io.sarl.lang.annotation.PrivateAPI;
+
+/** Table that is used by the generated code for dispatching an event to the guard evaluators
+ * of the event types that are handled by an agent or a behavior.
+ *
+ * <p>Each event class is associated to a dense integer identifier that is stable for the lifetime
+ * of the virtual machine. A table is created by the SARL compiler for each type that declares a large
+ * number of behavior units. The table contains the list of the handled event types. Its function
+ * {@link #getDispatchCases(Class)} replies the indexes of the handled types that are compatible with
+ * a given event type. These indexes are computed once per event class, and they are the labels of the
+ * {@code switch} that is generated into the {@code $evaluateBehaviorGuards} function.
+ * The dispatching cost does not depend anymore on the number of handled event types.
+ *
+ * <p>The indexes are replied in the order of the handled types that is given to the constructor.
+ * Consequently, the guards are evaluated in the same order as with a chain of {@code instanceof} tests.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ * @privateapi
+ */
+@PrivateAPI
+public final class EventDispatchTable {
+
+	private static final int[] NO_CASE = new int[0];
+
+	private static final AtomicInteger TYPE_ID_COUNTER = new AtomicInteger();
+
+	private static final ClassValue<Integer> TYPE_IDS = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return Integer.valueOf(TYPE_ID_COUNTER.getAndIncrement());
+		}
+	};
+
+	private final Class<?>[] handledTypes;
+
+	private volatile int[][] dispatchCases = new int[0][];
+
+	/** Constructor.
+	 *
+	 * @param handledTypes the types of events that are handled, in the order of the cases.
+	 */
+	public EventDispatchTable(Class<?>... handledTypes) {
+		assert handledTypes != null;
+		this.handledTypes = handledTypes;
+	}
+
+	/** Replies the identifier of the given type.
+	 *
+	 * <p>The identifiers are dense, i.e. they are allocated from zero in the order of the first
+	 * request for each type. They are stable for the lifetime of the virtual machine.
+	 *
+	 * @param type the type of the event.
+	 * @return the identifier.
+	 */
+	@Pure
+	public static int getEventTypeId(Class<?> type) {
+		assert type != null;
+		return TYPE_IDS.get(type).intValue();
+	}
+
+	/** Replies the number of handled event types.
+	 *
+	 * @return the number of handled types.
+	 */
+	@Pure
+	public int getHandledTypeCount() {
+		return this.handledTypes.length;
+	}
+
+	/** Replies the indexes of the handled types that are compatible with the given type of event.
+	 *
+	 * <p>The replied array is shared and must not be changed by the caller.
+	 *
+	 * @param eventType the type of the event.
+	 * @return the indexes of the handled types that are super types of, or equal to, the given type.
+	 */
+	@Pure
+	public int[] getDispatchCases(Class<?> eventType) {
+		final int id = getEventTypeId(eventType);
+		final int[][] cache = this.dispatchCases;
+		if (id < cache.length) {
+			final int[] cases = cache[id];
+			if (cases != null) {
+				return cases;
+			}
+		}
+		return computeDispatchCases(eventType, id);
+	}
+
+	private synchronized int[] computeDispatchCases(Class<?> eventType, int id) {
+		int[][] cache = this.dispatchCases;
+		if (id < cache.length && cache[id] != null) {
+			return cache[id];
+		}
+		final int[] buffer = new int[this.handledTypes.length];
+		int size = 0;
+		for (int i = 0; i < this.handledTypes.length; ++i) {
+			if (this.handledTypes[i].isAssignableFrom(eventType)) {
+				buffer[size] = i;
+				++size;
+			}
+		}
+		final int[] cases = size == 0 ? NO_CASE : Arrays.copyOf(buffer, size);
+		if (id < cache.length) {
+			cache = cache.clone();
+		} else {
+			cache = Arrays.copyOf(cache, Math.max(id + 1, cache.length * 2));
+		}
+		cache[id] = cases;
+		this.dispatchCases = cache;
+		return cases;
+	}
+
+}
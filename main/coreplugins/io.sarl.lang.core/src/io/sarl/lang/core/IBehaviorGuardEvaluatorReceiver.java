@@ -46,6 +46,27 @@ public interface IBehaviorGuardEvaluatorReceiver {
 		//
 	}
 
+	/** Evaluate the behavior unit's guards and add the indexes of the behavior units to run into the given buffer.
+	 *
+	 * <p>This function does not allocate any object when the event is not matching a behavior unit.
+	 *
+	 * @param event the event to evaluate.
+	 * @param matchingBehaviorUnits the buffer that receives the indexes of the behavior units to run.
+	 * @see #$invokeBehaviorUnit(int, Object)
+	 */
+	default void $evaluateBehaviorGuards(Object event, BehaviorUnitIndexBuffer matchingBehaviorUnits) {
+		//
+	}
+
+	/** Run the behavior unit with the given index.
+	 *
+	 * @param index the index of the behavior unit, as given by {@link #$evaluateBehaviorGuards(Object, BehaviorUnitIndexBuffer)}.
+	 * @param event the event that is the cause of the behavior unit run.
+	 */
+	default void $invokeBehaviorUnit(int index, Object event) {
+		//
+	}
+
 	/** Replies the list of the supported events by the receiver.
 	 *
 	 * @param toBeFilled the set to fill with the supported events.
@@ -236,6 +236,31 @@ public final class SREutils {
 		receiver.$evaluateBehaviorGuards(event, behaviorsMethodsToExecute);
 	}
 
+	/** Do the guard evaluations of the behavior units, and put the indexes of the behavior units to run into the given buffer.
+	 *
+	 * @param receiver is the object that receives the events.
+	 * @param event is the event that causes the evaluation.
+	 * @param matchingBehaviorUnits receives the indexes of the behavior units.
+	 * @since 0.12
+	 * @see #doInvokeBehaviorUnit(IBehaviorGuardEvaluatorReceiver, int, Object)
+	 */
+	public static void doEvaluateBehaviorGuards(IBehaviorGuardEvaluatorReceiver receiver, Object event,
+			BehaviorUnitIndexBuffer matchingBehaviorUnits) {
+		receiver.$evaluateBehaviorGuards(event, matchingBehaviorUnits);
+	}
+
+	/** Run the behavior unit with the given index.
+	 *
+	 * @param receiver is the object that receives the events.
+	 * @param index is the index of the behavior unit to run.
+	 * @param event is the event that causes the run.
+	 * @since 0.12
+	 * @see #doEvaluateBehaviorGuards(IBehaviorGuardEvaluatorReceiver, Object, BehaviorUnitIndexBuffer)
+	 */
+	public static void doInvokeBehaviorUnit(IBehaviorGuardEvaluatorReceiver receiver, int index, Object event) {
+		receiver.$invokeBehaviorUnit(index, event);
+	}
+
 	/** Retrieve the events' types that are supported by the given receiver.
 	 *
 	 * @param receiver is the object that receives the events.
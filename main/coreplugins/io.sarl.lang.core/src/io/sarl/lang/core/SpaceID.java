@@ -46,6 +46,10 @@ public class SpaceID extends SRESpecificDataContainer implements Serializable, C
 
 	private final transient Class<? extends SpaceSpecification<?>> spaceSpec;
 
+	/** Cached hash code, or zero if it is not yet computed.
+	 */
+	private transient int hash;
+
 	/** Constructs a space ID.
 	 *
 	 * @param contextID the unique ID of the context that contains the space (cannot be {@code null}).
@@ -94,9 +98,14 @@ public class SpaceID extends SRESpecificDataContainer implements Serializable, C
 	@Override
 	@Pure
 	public int hashCode() {
-		int result = 1;
-		result = 31 * result + (this.contextID == null ? 0 : this.contextID.hashCode());
-		result = 31 * result + (this.id == null ? 0 : this.id.hashCode());
+		// The identifier is immutable; the hash code is computed once.
+		int result = this.hash;
+		if (result == 0) {
+			result = 1;
+			result = 31 * result + (this.contextID == null ? 0 : this.contextID.hashCode());
+			result = 31 * result + (this.id == null ? 0 : this.id.hashCode());
+			this.hash = result;
+		}
 		return result;
 	}
 
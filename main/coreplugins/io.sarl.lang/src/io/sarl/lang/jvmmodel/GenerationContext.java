@@ -34,6 +34,7 @@ import org.eclipse.xtend.core.xtend.XtendMember;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.IGeneratorConfigProvider;
@@ -111,6 +112,21 @@ abstract class GenerationContext {
 	private final Map<String, Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>> guardEvaluators
 			= CollectionLiterals.newHashMap();
 
+	/** Guard evaluators to generate for the index-based protocol. The keys are the event identifiers. The values are
+	 * the code snipsets for evaluating guards and adding the indexes of the behavior units into the buffer.
+	 */
+	private final Map<String, Collection<Procedure1<? super ITreeAppendable>>> indexedGuardEvaluators
+			= CollectionLiterals.newHashMap();
+
+	/** Identifiers of the events for which the code of the index-based protocol is evaluating at least one guard,
+	 * i.e. the code is using the {@code occurrence} variable.
+	 */
+	private final Set<String> guardedIndexedEvents = CollectionLiterals.newHashSet();
+
+	/** Code snipsets for invoking the behavior units from their indexes.
+	 */
+	private final List<Procedure1<? super ITreeAppendable>> behaviorUnitInvocations = CollectionLiterals.newArrayList();
+
 	/** The context object.
 	 */
 	private EObject contextObject;
@@ -242,6 +258,50 @@ abstract class GenerationContext {
 		return evaluators;
 	}
 
+	/** Replies the guard evaluation code for the given event for the index-based protocol.
+	 *
+	 * @param source the source of the guard evaluation.
+	 * @return the guard evaluators.
+	 * @since 0.12
+	 */
+	public Collection<Procedure1<? super ITreeAppendable>> getIndexedGuardEvaluationCodeFor(SarlBehaviorUnit source) {
+		assert source != null;
+		final String id = source.getName().getIdentifier();
+		return this.indexedGuardEvaluators.computeIfAbsent(id, it -> new ArrayList<>());
+	}
+
+	/** Mark the index-based guard evaluation code of the given event as evaluating a guard,
+	 * i.e. the code is using the {@code occurrence} variable.
+	 *
+	 * @param source the source of the guard evaluation.
+	 * @since 0.12
+	 */
+	public void markIndexedGuardEvaluationAsGuarded(SarlBehaviorUnit source) {
+		assert source != null;
+		this.guardedIndexedEvents.add(source.getName().getIdentifier());
+	}
+
+	/** Replies if the index-based guard evaluation code of the given event is evaluating at least one guard,
+	 * i.e. the code is using the {@code occurrence} variable.
+	 *
+	 * @param eventType the type of the event.
+	 * @return {@code true} if a guard is evaluated for the event type.
+	 * @since 0.12
+	 */
+	public boolean isIndexedGuardEvaluationGuarded(JvmTypeReference eventType) {
+		assert eventType != null;
+		return this.guardedIndexedEvents.contains(eventType.getIdentifier());
+	}
+
+	/** Replies the code snipsets for invoking the behavior units from their indexes.
+	 *
+	 * @return the invocation codes, in the order of the behavior unit indexes.
+	 * @since 0.12
+	 */
+	public List<Procedure1<? super ITreeAppendable>> getBehaviorUnitInvocationCodes() {
+		return this.behaviorUnitInvocations;
+	}
+
 	/** Replies the computed serial number.
 	 *
 	 * @return the serial number.
@@ -459,6 +519,9 @@ abstract class GenerationContext {
 		this.preFinalization.clear();
 		this.postFinalization.clear();
 		this.guardEvaluators.clear();
+		this.indexedGuardEvaluators.clear();
+		this.guardedIndexedEvents.clear();
+		this.behaviorUnitInvocations.clear();
 	}
 
 }
@@ -44,6 +44,7 @@ public class Messages extends NLS {
 	public static String SARLJvmModelInferrer_11;
 	public static String SARLJvmModelInferrer_12;
 	public static String SARLJvmModelInferrer_13;
+	public static String SARLJvmModelInferrer_14;
 	public static String SARLJvmModelInferrer_6;
 	static {
 		// initialize resource bundle
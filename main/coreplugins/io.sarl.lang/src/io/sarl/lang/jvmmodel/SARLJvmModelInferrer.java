@@ -94,6 +94,7 @@ import org.eclipse.xtext.common.types.JvmIntAnnotationValue;
 import org.eclipse.xtext.common.types.JvmMember;
 import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.JvmParameterizedTypeReference;
+import org.eclipse.xtext.common.types.JvmStringAnnotationValue;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeAnnotationValue;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
@@ -117,6 +118,7 @@ import org.eclipse.xtext.xbase.jvmmodel.IJvmModelAssociator;
 import org.eclipse.xtext.xbase.jvmmodel.JvmTypesBuilder;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.Inline;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.lib.Pair;
@@ -141,6 +143,7 @@ import io.sarl.lang.annotation.Generated;
 import io.sarl.lang.annotation.ImportedCapacityFeature;
 import io.sarl.lang.annotation.NoEqualityTestFunctionsGeneration;
 import io.sarl.lang.annotation.PerceptGuardEvaluator;
+import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;
 import io.sarl.lang.annotation.SarlElementType;
 import io.sarl.lang.annotation.SarlSourceCode;
 import io.sarl.lang.annotation.SarlSpecification;
@@ -153,8 +156,10 @@ import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentTrait;
 import io.sarl.lang.core.AtomicSkillReference;
 import io.sarl.lang.core.Behavior;
+import io.sarl.lang.core.BehaviorUnitIndexBuffer;
 import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventDispatchTable;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.sarl.SarlAction;
 import io.sarl.lang.sarl.SarlAgent;
@@ -214,6 +219,22 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 	private static final String RUNNABLE_COLLECTION = Utils.createNameForHiddenLocalVariable("runnableCollection"); //$NON-NLS-1$
 
+	private static final String DISPATCH_CASE = Utils.createNameForHiddenLocalVariable("case"); //$NON-NLS-1$
+
+	private static final String MATCHING_BEHAVIOR_UNITS = "matchingBehaviorUnits"; //$NON-NLS-1$
+
+	private static final String BEHAVIOR_UNIT_BASE_NAME = Utils.HIDDEN_MEMBER_CHARACTER + "BEHAVIOR_UNIT_BASE"; //$NON-NLS-1$
+
+	private static final String EVENT_DISPATCH_TABLE_NAME = Utils.HIDDEN_MEMBER_CHARACTER + "EVENT_DISPATCH_TABLE"; //$NON-NLS-1$
+
+	/** Minimal number of handled event types for generating a {@code switch}-based dispatcher
+	 * into {@code $evaluateBehaviorGuards}. Below this number, a chain of {@code instanceof} tests
+	 * is generated because it is faster than the table lookup.
+	 *
+	 * @since 0.12
+	 */
+	protected static final int SWITCH_BASED_GUARD_EVALUATION_THRESHOLD = 4;
+
 	private static final String HASHCODE_FUNCTION_NAME = "hashCode"; //$NON-NLS-1$
 
 	private static final String EQUALS_FUNCTION_NAME = "equals"; //$NON-NLS-1$
@@ -2007,6 +2028,23 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 			final Collection<Procedure1<? super ITreeAppendable>> evaluators = context.getGuardEvalationCodeFor(source);
 			assert evaluators != null;
+			final Collection<Procedure1<? super ITreeAppendable>> indexedEvaluators = context.getIndexedGuardEvaluationCodeFor(source);
+			assert indexedEvaluators != null;
+			final int behaviorUnitIndex = context.getBehaviorUnitIndex();
+
+			context.getBehaviorUnitInvocationCodes().add(it -> {
+				it.append("case "); //$NON-NLS-1$
+				it.append(Integer.toString(behaviorUnitIndex));
+				it.append(":"); //$NON-NLS-1$
+				it.increaseIndentation().newLine();
+				it.append(bodyMethodName);
+				it.append("(("); //$NON-NLS-1$
+				it.append(source.getName().getType());
+				it.append(") event);"); //$NON-NLS-1$
+				it.newLine();
+				it.append("break;"); //$NON-NLS-1$
+				it.decreaseIndentation();
+			});
 
 			if (isTrueGuard) {
 				evaluators.add(it -> {
@@ -2017,6 +2055,9 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
 					it.append("));"); //$NON-NLS-1$
 				});
+				indexedEvaluators.add(it -> {
+					appendBehaviorUnitIndex(it, behaviorUnitIndex);
+				});
 			} else {
 				assert guard != null;
 
@@ -2084,6 +2125,22 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 					it.newLine();
 					it.append("}"); //$NON-NLS-1$
 				});
+				context.markIndexedGuardEvaluationAsGuarded(source);
+				indexedEvaluators.add(it -> {
+					it.append("if ("); //$NON-NLS-1$
+					it.append(guardMethodName);
+					it.append("("); //$NON-NLS-1$
+					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+					it.append(", "); //$NON-NLS-1$
+					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+					it.append(")) {"); //$NON-NLS-1$
+					it.increaseIndentation();
+					it.newLine();
+					appendBehaviorUnitIndex(it, behaviorUnitIndex);
+					it.decreaseIndentation();
+					it.newLine();
+					it.append("}"); //$NON-NLS-1$
+				});
 			}
 
 			context.setBehaviorUnitIndex(context.getBehaviorUnitIndex() + 1);
@@ -2228,7 +2285,8 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		}
 
 		// Add event handlers
-		appendEventGuardEvaluators(featureContainerType);
+		appendEventGuardEvaluators(featureContainerType,
+				container instanceof SarlAgent || container instanceof SarlBehavior || container instanceof SarlSkill);
 
 		// Add dispatch methods
 		appendSyntheticDispatchMethods(container, featureContainerType);
@@ -2515,29 +2573,89 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 	}
 
 	/** Append the guard evaluators.
+	 *
+	 * <p>The index of the guard evaluators is generated on every type that may contain behavior units,
+	 * even if it is empty, in order to avoid the run-time environment to explore the declared methods
+	 * of the type by reflection.
 	 *
 	 * @param container the container type.
+	 * @param behaviorUnitContainer indicates if the container is a type that may contain behavior units,
+	 *     i.e. an agent, a behavior or a skill.
 	 */
-	protected void appendEventGuardEvaluators(JvmGenericType container) {
+	protected void appendEventGuardEvaluators(JvmGenericType container, boolean behaviorUnitContainer) {
 		final GenerationContext context = getContext(container);
 		if (context != null) {
 			final Collection<Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>> allEvaluators
 					= context.getGuardEvaluationCodes();
 			if (allEvaluators == null || allEvaluators.isEmpty()) {
+				if (behaviorUnitContainer) {
+					appendEventGuardEvaluatorIndex(Collections.emptyMap(), container);
+				}
 				return;
 			}
 
 			final Map<JvmTypeReference, Set<String>> guardDefs = new TreeMap<>((a, b) -> {
 				return a.getQualifiedName().compareTo(b.getQualifiedName());
 			});
+			final Map<JvmTypeReference, Collection<Procedure1<? super ITreeAppendable>>> indexedGuardDefs = new TreeMap<>((a, b) -> {
+				return a.getQualifiedName().compareTo(b.getQualifiedName());
+			});
 
 			for (final Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>> evaluators : allEvaluators) {
 				final String behName = appendEventGuardEvaluatorForReflectMethod(evaluators, container, context);
 				final Set<String> functionNames = guardDefs.computeIfAbsent(evaluators.getKey().getName(), it -> new TreeSet<>());
 				functionNames.add(behName);
+				indexedGuardDefs.put(evaluators.getKey().getName(),
+						context.getIndexedGuardEvaluationCodeFor(evaluators.getKey()));
 			}
 
+			appendEventGuardEvaluatorIndex(guardDefs, container);
 			appendEventGuardEvaluatorsForPolymorphicMethod(guardDefs, container, context);
+			appendEventGuardEvaluatorsForIndexedMethod(indexedGuardDefs, container, context);
+		}
+	}
+
+	/** Append the annotation that is listing the guard evaluators that are declared into the container.
+	 *
+	 * <p>This annotation enables the run-time environment to retrieve the guard evaluators
+	 * without exploring the declared methods of the container by reflection. The run-time environment
+	 * explores the declared methods only for the types that are compiled with an older SARL specification.
+	 * If the annotation cannot be generated, an error is logged.
+	 *
+	 * @param guardDefs the definition of the guards.
+	 * @param container the receiver of the annotation.
+	 * @since 0.12
+	 * @see PerceptGuardEvaluatorIndex
+	 */
+	protected void appendEventGuardEvaluatorIndex(Map<JvmTypeReference, Set<String>> guardDefs, JvmGenericType container) {
+		try {
+			final JvmAnnotationReference annot = this._annotationTypesBuilder.annotationRef(PerceptGuardEvaluatorIndex.class);
+			if (annot == null) {
+				this.log.log(Level.SEVERE, MessageFormat.format(Messages.SARLJvmModelInferrer_14,
+						container.getIdentifier(), PerceptGuardEvaluatorIndex.class.getName()));
+				return;
+			}
+			final JvmTypeAnnotationValue eventsValue = this.typesFactory.createJvmTypeAnnotationValue();
+			final JvmStringAnnotationValue methodsValue = this.typesFactory.createJvmStringAnnotationValue();
+			for (final JvmOperation operation : annot.getAnnotation().getDeclaredOperations()) {
+				if ("events".equals(operation.getSimpleName())) { //$NON-NLS-1$
+					eventsValue.setOperation(operation);
+				} else if ("methods".equals(operation.getSimpleName())) { //$NON-NLS-1$
+					methodsValue.setOperation(operation);
+				}
+			}
+			for (final Entry<JvmTypeReference, Set<String>> entry : guardDefs.entrySet()) {
+				for (final String guardName : entry.getValue()) {
+					eventsValue.getValues().add(this._typeReferenceBuilder.typeRef(entry.getKey().getType()));
+					methodsValue.getValues().add(guardName);
+				}
+			}
+			annot.getExplicitValues().add(eventsValue);
+			annot.getExplicitValues().add(methodsValue);
+			container.getAnnotations().add(annot);
+		} catch (IllegalArgumentException exception) {
+			this.log.log(Level.SEVERE, MessageFormat.format(Messages.SARLJvmModelInferrer_14,
+					container.getIdentifier(), PerceptGuardEvaluatorIndex.class.getName()), exception);
 		}
 	}
 
@@ -2616,28 +2734,297 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 		container.getMembers().add(evaluateOperation);
 
+		if (guardDefs.size() >= SWITCH_BASED_GUARD_EVALUATION_THRESHOLD) {
+			appendEventDispatchTable(guardDefs.keySet(), container, context);
+		}
+
 		setBody(evaluateOperation, it -> {
 			it.append("super.$evaluateBehaviorGuards(event, callbacks);"); //$NON-NLS-1$
-			for (final Entry<JvmTypeReference, Set<String>> entry : guardDefs.entrySet()) {
+			appendEventTypeDispatch(it, guardDefs.keySet(), (it2, type) -> {
+				for (final String meth : guardDefs.get(type)) {
+					it2.newLine();
+					it2.append(meth);
+					it2.append("(occurrence, callbacks);"); //$NON-NLS-1$
+				}
+			});
+		});
+	}
+
+	/** Append the guard evaluators for the index-based protocol, i.e. the guard evaluation function that
+	 * replies the indexes of the behavior units to run, and the function that runs a behavior unit from its index.
+	 *
+	 * @param guardDefs the definition of the guards.
+	 * @param container the receiver of the generated components.
+	 * @param context the generation context.
+	 * @since 0.12
+	 */
+	protected void appendEventGuardEvaluatorsForIndexedMethod(
+			Map<JvmTypeReference, Collection<Procedure1<? super ITreeAppendable>>> guardDefs,
+			JvmGenericType container, GenerationContext context) {
+		final JvmTypeReference voidType = this._typeReferenceBuilder.typeRef(Void.TYPE);
+		final JvmTypeReference objectType = this._typeReferenceBuilder.typeRef(Object.class);
+
+		// Function "$evaluateBehaviorGuards"
+		final JvmOperation evaluateOperation = this.typesFactory.createJvmOperation();
+		appendGeneratedAnnotation(evaluateOperation, context);
+		addAnnotationSafe(evaluateOperation, Override.class);
+
+		evaluateOperation.setAbstract(false);
+		evaluateOperation.setNative(false);
+		evaluateOperation.setSynchronized(false);
+		evaluateOperation.setStrictFloatingPoint(false);
+		evaluateOperation.setFinal(false);
+		evaluateOperation.setVisibility(JvmVisibility.PUBLIC);
+		evaluateOperation.setStatic(false);
+		evaluateOperation.setSimpleName("$evaluateBehaviorGuards"); //$NON-NLS-1$
+		evaluateOperation.setReturnType(this.typeBuilder.cloneWithProxies(voidType));
+
+		JvmFormalParameter jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("event"); //$NON-NLS-1$
+		jvmParam.setParameterType(this.typeBuilder.cloneWithProxies(objectType));
+		evaluateOperation.getParameters().add(jvmParam);
+
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName(MATCHING_BEHAVIOR_UNITS);
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(BehaviorUnitIndexBuffer.class));
+		evaluateOperation.getParameters().add(jvmParam);
+
+		container.getMembers().add(evaluateOperation);
+
+		setBody(evaluateOperation, it -> {
+			it.append("super.$evaluateBehaviorGuards(event, "); //$NON-NLS-1$
+			it.append(MATCHING_BEHAVIOR_UNITS);
+			it.append(");"); //$NON-NLS-1$
+			appendEventTypeDispatch(it, guardDefs.keySet(), context::isIndexedGuardEvaluationGuarded, (it2, type) -> {
+				for (final Procedure1<? super ITreeAppendable> code : guardDefs.get(type)) {
+					it2.newLine();
+					code.apply(it2);
+				}
+			});
+		});
+
+		// Function "$invokeBehaviorUnit"
+		final JvmOperation invokeOperation = this.typesFactory.createJvmOperation();
+		appendGeneratedAnnotation(invokeOperation, context);
+		addAnnotationSafe(invokeOperation, Override.class);
+
+		invokeOperation.setAbstract(false);
+		invokeOperation.setNative(false);
+		invokeOperation.setSynchronized(false);
+		invokeOperation.setStrictFloatingPoint(false);
+		invokeOperation.setFinal(false);
+		invokeOperation.setVisibility(JvmVisibility.PUBLIC);
+		invokeOperation.setStatic(false);
+		invokeOperation.setSimpleName("$invokeBehaviorUnit"); //$NON-NLS-1$
+		invokeOperation.setReturnType(this.typeBuilder.cloneWithProxies(voidType));
+
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("index"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(int.class));
+		invokeOperation.getParameters().add(jvmParam);
+
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("event"); //$NON-NLS-1$
+		jvmParam.setParameterType(this.typeBuilder.cloneWithProxies(objectType));
+		invokeOperation.getParameters().add(jvmParam);
+
+		container.getMembers().add(invokeOperation);
+
+		final List<Procedure1<? super ITreeAppendable>> invocations = new ArrayList<>(context.getBehaviorUnitInvocationCodes());
+
+		setBody(invokeOperation, it -> {
+			it.append("switch (index - "); //$NON-NLS-1$
+			it.append(BEHAVIOR_UNIT_BASE_NAME);
+			it.append(") {"); //$NON-NLS-1$
+			for (final Procedure1<? super ITreeAppendable> code : invocations) {
+				it.newLine();
+				code.apply(it);
+			}
+			it.newLine();
+			it.append("default:"); //$NON-NLS-1$
+			it.increaseIndentation().newLine();
+			it.append("super.$invokeBehaviorUnit(index, event);"); //$NON-NLS-1$
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
+		});
+
+		// Field "$BEHAVIOR_UNIT_BASE"
+		final JvmField field = this.typesFactory.createJvmField();
+		field.setSimpleName(BEHAVIOR_UNIT_BASE_NAME);
+		field.setVisibility(JvmVisibility.PRIVATE);
+		field.setStatic(true);
+		field.setTransient(false);
+		field.setVolatile(false);
+		field.setFinal(true);
+		container.getMembers().add(field);
+		field.setType(this.typeBuilder.cloneWithProxies(this._typeReferenceBuilder.typeRef(int.class)));
+		final int nbBehaviorUnits = invocations.size();
+		this.typeBuilder.setInitializer(field, it -> {
+			it.append(BehaviorUnitIndexBuffer.class);
+			it.append(".reserveIndexes("); //$NON-NLS-1$
+			it.append(Integer.toString(nbBehaviorUnits));
+			it.append(")"); //$NON-NLS-1$
+		});
+		appendGeneratedAnnotation(field, context);
+		this.readAndWriteTracking.markInitialized(field, null);
+	}
+
+	/** Append the static table that is used for dispatching the events with a {@code switch}.
+	 *
+	 * @param eventTypes the handled event types, in the order of the cases.
+	 * @param container the receiver of the generated components.
+	 * @param context the generation context.
+	 * @since 0.12
+	 * @see #appendEventTypeDispatch(ITreeAppendable, Set, Procedure2)
+	 */
+	protected void appendEventDispatchTable(Set<JvmTypeReference> eventTypes,
+			JvmGenericType container, GenerationContext context) {
+		// Field "$EVENT_DISPATCH_TABLE"
+		final JvmField field = this.typesFactory.createJvmField();
+		field.setSimpleName(EVENT_DISPATCH_TABLE_NAME);
+		field.setVisibility(JvmVisibility.PRIVATE);
+		field.setStatic(true);
+		field.setTransient(false);
+		field.setVolatile(false);
+		field.setFinal(true);
+		container.getMembers().add(field);
+		field.setType(this.typeBuilder.cloneWithProxies(this._typeReferenceBuilder.typeRef(EventDispatchTable.class)));
+		this.typeBuilder.setInitializer(field, it -> {
+			it.append("new "); //$NON-NLS-1$
+			it.append(EventDispatchTable.class);
+			it.append("("); //$NON-NLS-1$
+			it.increaseIndentation().increaseIndentation();
+			boolean first = true;
+			for (final JvmTypeReference type : eventTypes) {
+				if (first) {
+					first = false;
+				} else {
+					it.append(","); //$NON-NLS-1$
+				}
+				it.newLine();
+				it.append(type.getType());
+				it.append(".class"); //$NON-NLS-1$
+			}
+			it.append(")"); //$NON-NLS-1$
+			it.decreaseIndentation().decreaseIndentation();
+		});
+		appendGeneratedAnnotation(field, context);
+		this.readAndWriteTracking.markInitialized(field, null);
+	}
+
+	/** Generate the code that is dispatching the event, named {@code event}, to the code that is dedicated to
+	 * each of the event types. The event is casted to the event type and stored into the local variable
+	 * {@code occurrence} before the dedicated code.
+	 *
+	 * <p>When the number of event types is lower than {@link #SWITCH_BASED_GUARD_EVALUATION_THRESHOLD}, the dispatching
+	 * is a chain of {@code instanceof} tests. Otherwise, it is a {@code switch} on the indexes of the handled event
+	 * types that are replied by the static {@link EventDispatchTable} of the container.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param eventTypes the handled event types.
+	 * @param code the generator of the code that is dedicated to an event type.
+	 * @since 0.12
+	 * @see #appendEventDispatchTable(Set, JvmGenericType, GenerationContext)
+	 */
+	protected void appendEventTypeDispatch(ITreeAppendable it, Set<JvmTypeReference> eventTypes,
+			Procedure2<? super ITreeAppendable, ? super JvmTypeReference> code) {
+		appendEventTypeDispatch(it, eventTypes, type -> true, code);
+	}
+
+	/** Generate the code that is dispatching the event, named {@code event}, to the code that is dedicated to
+	 * each of the event types. The event is casted to the event type and stored into the local variable
+	 * {@code occurrence} before the dedicated code only if this variable is used by the dedicated code.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param eventTypes the handled event types.
+	 * @param occurrenceUsage indicates if the dedicated code of an event type is using the {@code occurrence} variable.
+	 * @param code the generator of the code that is dedicated to an event type.
+	 * @since 0.12
+	 * @see #appendEventTypeDispatch(ITreeAppendable, Set, Procedure2)
+	 */
+	protected void appendEventTypeDispatch(ITreeAppendable it, Set<JvmTypeReference> eventTypes,
+			Function1<? super JvmTypeReference, Boolean> occurrenceUsage,
+			Procedure2<? super ITreeAppendable, ? super JvmTypeReference> code) {
+		if (eventTypes.size() >= SWITCH_BASED_GUARD_EVALUATION_THRESHOLD) {
+			it.newLine();
+			it.append("if (event != null) {"); //$NON-NLS-1$
+			it.increaseIndentation().newLine();
+			it.append("for (final int "); //$NON-NLS-1$
+			it.append(DISPATCH_CASE);
+			it.append(" : "); //$NON-NLS-1$
+			it.append(EVENT_DISPATCH_TABLE_NAME);
+			it.append(".getDispatchCases(event.getClass())) {"); //$NON-NLS-1$
+			it.increaseIndentation().newLine();
+			it.append("switch ("); //$NON-NLS-1$
+			it.append(DISPATCH_CASE);
+			it.append(") {"); //$NON-NLS-1$
+			int index = 0;
+			for (final JvmTypeReference type : eventTypes) {
+				it.newLine();
+				it.append("case "); //$NON-NLS-1$
+				it.append(Integer.toString(index));
+				it.append(": {"); //$NON-NLS-1$
+				it.increaseIndentation();
+				if (occurrenceUsage.apply(type).booleanValue()) {
+					it.newLine();
+					it.append("final "); //$NON-NLS-1$
+					it.append(type.getType());
+					it.append(" occurrence = ("); //$NON-NLS-1$
+					it.append(type.getType());
+					it.append(") event;"); //$NON-NLS-1$
+				}
+				code.apply(it, type);
+				it.newLine();
+				it.append("break;"); //$NON-NLS-1$
+				it.decreaseIndentation().newLine();
+				it.append("}"); //$NON-NLS-1$
+				++index;
+			}
+			it.newLine();
+			it.append("default:"); //$NON-NLS-1$
+			it.increaseIndentation().newLine();
+			it.append("break;"); //$NON-NLS-1$
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
+		} else {
+			for (final JvmTypeReference type : eventTypes) {
 				it.newLine();
 				it.append("if (event instanceof "); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
+				it.append(type.getType());
 				it.append(") {"); //$NON-NLS-1$
-				it.increaseIndentation().newLine();
-				it.append("final "); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(" occurrence = ("); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(") event;"); //$NON-NLS-1$
-				for (final String meth : entry.getValue()) {
+				it.increaseIndentation();
+				if (occurrenceUsage.apply(type).booleanValue()) {
 					it.newLine();
-					it.append(meth);
-					it.append("(occurrence, callbacks);"); //$NON-NLS-1$
+					it.append("final "); //$NON-NLS-1$
+					it.append(type.getType());
+					it.append(" occurrence = ("); //$NON-NLS-1$
+					it.append(type.getType());
+					it.append(") event;"); //$NON-NLS-1$
 				}
+				code.apply(it, type);
 				it.decreaseIndentation().newLine();
 				it.append("}"); //$NON-NLS-1$
 			}
-		});
+		}
+	}
+
+	/** Generate the code that adds the index of a behavior unit into the buffer of the matching behavior units.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param behaviorUnitIndex the index of the behavior unit in its container.
+	 * @since 0.12
+	 */
+	protected void appendBehaviorUnitIndex(ITreeAppendable it, int behaviorUnitIndex) {
+		it.append(MATCHING_BEHAVIOR_UNITS);
+		it.append(".add("); //$NON-NLS-1$
+		it.append(BEHAVIOR_UNIT_BASE_NAME);
+		it.append(" + "); //$NON-NLS-1$
+		it.append(Integer.toString(behaviorUnitIndex));
+		it.append(");"); //$NON-NLS-1$
 	}
 
 	/** Append the guard evaluators for the reflection-based method.
@@ -42,7 +42,14 @@ public enum EventBusType {
 
 	/** The event bus is used the polymorphic-call method to have access to the event handlers.
 	 */
-	POLYMORPHIC;
+	POLYMORPHIC,
+
+	/** The event bus is using invokers that are generated by the lambda meta-factory, once per listener class,
+	 * to have access to the event handlers.
+	 *
+	 * @since 0.12
+	 */
+	LAMBDA;
 
 	/** Parse the given case insensitive string for obtaining the type.
 	 *
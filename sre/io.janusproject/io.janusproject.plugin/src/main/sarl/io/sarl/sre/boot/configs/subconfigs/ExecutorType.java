@@ -0,0 +1,115 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.boot.configs.subconfigs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Type of executor that is running the agent tasks.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public enum ExecutorType {
+
+	/** The agent tasks are run by a pool of platform threads.
+	 */
+	THREAD_POOL,
+
+	/** The agent tasks are run by virtual threads, one per task. The timers are still run by
+	 * the scheduled executor. Virtual threads are available since Java 21; on older virtual
+	 * machines, an unbounded pool of platform threads is used.
+	 */
+	VIRTUAL_THREADS,
+
+	/** The agent tasks are run by a work-stealing fork-join pool with the maximum number of threads
+	 * as parallelism. The tasks of an agent that are submitted from a thread of the pool that is running
+	 * a task of the same agent, e.g. the follow-up events and the behavior tasks, are pushed to the local
+	 * queue of this thread. The tasks for other agents are submitted to the pool; on Java 8 they are pushed
+	 * to a shared queue, and since Java 9 they are also pushed to the local queue of the thread and
+	 * stolen by the idle threads. The timers are still run by the scheduled executor.
+	 */
+	FORK_JOIN;
+
+	/** Parse the given case insensitive string for obtaining the type.
+	 *
+	 * @param name the string to parse.
+	 * @return the type.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static ExecutorType valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("name is null"); //$NON-NLS-1$
+		}
+		try {
+			final ExecutorType type = valueOf(name.toUpperCase().replace('-', '_'));
+			if (type != null) {
+				return type;
+			}
+		} catch (Throwable exception) {
+			//
+		}
+		throw new IllegalArgumentException("illegal value for name: " + name); //$NON-NLS-1$
+	}
+
+	/** Replies the Json string representation of this type.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase().replace('_', '-');
+	}
+
+	/** Replies the default type of executor.
+	 *
+	 * @return the default type.
+	 */
+	public static ExecutorType getDefault() {
+		return THREAD_POOL;
+	}
+
+	/** Replies the Json labels for the types of executor.
+	 *
+	 * @return the labels.
+	 */
+	public static String getJsonLabels() {
+		final StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+		for (final ExecutorType type : values()) {
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(", "); //$NON-NLS-1$
+			}
+			buffer.append(type.toJsonString());
+		}
+		return buffer.toString();
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.boot.configs.subconfigs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Policy for notifying the other agents about the participants that are joining a space.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public enum ParticipantNotificationPolicy {
+
+	/** One {@code ParticipantJoined} event is fired for each participant that is joining a space.
+	 */
+	PER_PARTICIPANT,
+
+	/** The participants that are joining a space together, e.g. agents spawned in group, or within the same
+	 * time window, are notified with a single {@code ParticipantsJoined} event.
+	 */
+	BATCHED,
+
+	/** No event is fired when a participant is joining or leaving a space.
+	 */
+	DISABLED;
+
+	/** Parse the given case insensitive string for obtaining the policy.
+	 *
+	 * @param name the string to parse.
+	 * @return the policy.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static ParticipantNotificationPolicy valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("name is null"); //$NON-NLS-1$
+		}
+		try {
+			final ParticipantNotificationPolicy type = valueOf(name.toUpperCase());
+			if (type != null) {
+				return type;
+			}
+		} catch (Throwable exception) {
+			//
+		}
+		throw new IllegalArgumentException("illegal value for name: " + name); //$NON-NLS-1$
+	}
+
+	/** Replies the Json string representation of this policy.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase();
+	}
+
+	/** Replies the default policy.
+	 *
+	 * @return the default policy.
+	 */
+	public static ParticipantNotificationPolicy getDefault() {
+		return PER_PARTICIPANT;
+	}
+
+	/** Replies the Json labels for the policies.
+	 *
+	 * @return the labels.
+	 */
+	public static String getJsonLabels() {
+		final StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+		for (final ParticipantNotificationPolicy type : values()) {
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(", "); //$NON-NLS-1$
+			}
+			buffer.append(type.toJsonString());
+		}
+		return buffer.toString();
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.boot.configs.subconfigs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Type of scheduler that is running the delayed and periodic tasks.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public enum SchedulerType {
+
+	/** The tasks are stored into the priority queue of a scheduled thread pool of the JRE.
+	 * The insertion and the cancellation of a task have a logarithmic cost.
+	 */
+	SCHEDULED_THREAD_POOL,
+
+	/** The tasks are stored into a hierarchical timing wheel. The insertion and the
+	 * cancellation of a task have a constant cost. The deadlines are rounded to the next tick,
+	 * and the expired tasks are run by the executor of the agent tasks.
+	 */
+	TIMING_WHEEL,
+
+	/** The tasks are run in virtual time. The time jumps to the deadline of the next pending task
+	 * as soon as no agent task is waiting or running. The time service replies the virtual time.
+	 */
+	VIRTUAL_TIME;
+
+	/** Parse the given case insensitive string for obtaining the type.
+	 *
+	 * @param name the string to parse.
+	 * @return the type.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static SchedulerType valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("name is null"); //$NON-NLS-1$
+		}
+		try {
+			final SchedulerType type = valueOf(name.toUpperCase().replace('-', '_'));
+			if (type != null) {
+				return type;
+			}
+		} catch (Throwable exception) {
+			//
+		}
+		throw new IllegalArgumentException("illegal value for name: " + name); //$NON-NLS-1$
+	}
+
+	/** Replies the Json string representation of this type.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase().replace('_', '-');
+	}
+
+	/** Replies the default type of scheduler.
+	 *
+	 * @return the default type.
+	 */
+	public static SchedulerType getDefault() {
+		return SCHEDULED_THREAD_POOL;
+	}
+
+	/** Replies the Json labels for the types of scheduler.
+	 *
+	 * @return the labels.
+	 */
+	public static String getJsonLabels() {
+		final StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+		for (final SchedulerType type : values()) {
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(", "); //$NON-NLS-1$
+			}
+			buffer.append(type.toJsonString());
+		}
+		return buffer.toString();
+	}
+
+}
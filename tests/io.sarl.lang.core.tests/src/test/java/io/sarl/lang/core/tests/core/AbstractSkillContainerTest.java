@@ -22,6 +22,7 @@ package io.sarl.lang.core.tests.core;
 
 import static io.sarl.tests.api.tools.TestAssertions.assertException;
 import static io.sarl.tests.api.tools.TestAssertions.assertInstanceOf;
+import static io.sarl.tests.api.tools.TestMockito.mock;
 import static io.sarl.tests.api.tools.TestMockito.spy;
 import static io.sarl.tests.api.tools.TestReflections.invokeFunc;
 import static io.sarl.tests.api.tools.TestReflections.invokeProc;
@@ -31,6 +32,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import java.security.InvalidParameterException;
 import java.util.UUID;
@@ -47,6 +54,7 @@ import io.sarl.lang.core.Address;
 import io.sarl.lang.core.AtomicSkillReference;
 import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.DefaultSkill;
+import io.sarl.lang.core.DynamicSkillProvider;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Skill;
@@ -433,6 +441,32 @@ public class AbstractSkillContainerTest extends AbstractSarlTest {
 		assertSame(ref0, ref1);
 	}
 
+	@Test
+	public void getSkill_defaultskill_attachOwner() throws Exception {
+		AtomicSkillReference ref0 = this.container.$getSkill(Capacity3.class);
+		assertNotNull(ref0);
+		Skill s0 = ref0.get();
+		assertNotNull(s0);
+		verify(this.container).$attachOwner(same(s0));
+	}
+
+	@Test
+	public void getSkill_dynamicSkillProvider() throws Exception {
+		Skill1 so = new Skill1();
+		DynamicSkillProvider provider = mock(DynamicSkillProvider.class);
+		when(provider.createSkill(any())).thenReturn(so);
+		SREutils.setDynamicSkillProvider(this.container, provider);
+		verifyNoMoreInteractions(provider);
+		//
+		AtomicSkillReference ref0 = this.container.$getSkill(Capacity1.class);
+		assertNotNull(ref0);
+		assertSame(so, ref0.get());
+		//
+		AtomicSkillReference ref1 = this.container.$getSkill(Capacity1.class);
+		assertSame(ref0, ref1);
+		verify(provider, times(1)).createSkill(Capacity1.class);
+	}
+
 	@Test
 	public void getSkill_noRegistration() throws Exception {
 		assertException(UnimplementedCapacityException.class, () -> {
@@ -0,0 +1,103 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.BehaviorUnitIndexBuffer;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@SuppressWarnings("all")
+@DisplayName("BehaviorUnitIndexBuffer")
+@Tag("unit")
+@Tag("core")
+public class BehaviorUnitIndexBufferTest extends AbstractSarlTest {
+
+	private BehaviorUnitIndexBuffer buffer;
+
+	@BeforeEach
+	public void setUp() {
+		this.buffer = new BehaviorUnitIndexBuffer(2);
+	}
+
+	@Test
+	public void reserveIndexes() {
+		final int base1 = BehaviorUnitIndexBuffer.reserveIndexes(3);
+		final int base2 = BehaviorUnitIndexBuffer.reserveIndexes(2);
+		assertTrue(base2 >= base1 + 3);
+	}
+
+	@Test
+	public void isEmpty() {
+		assertTrue(this.buffer.isEmpty());
+		this.buffer.add(4);
+		assertFalse(this.buffer.isEmpty());
+	}
+
+	@Test
+	public void add() {
+		this.buffer.add(4);
+		this.buffer.add(7);
+		this.buffer.add(1);
+		assertEquals(3, this.buffer.size());
+		assertEquals(4, this.buffer.get(0));
+		assertEquals(7, this.buffer.get(1));
+		assertEquals(1, this.buffer.get(2));
+	}
+
+	@Test
+	public void truncate() {
+		this.buffer.add(4);
+		final int mark = this.buffer.size();
+		this.buffer.add(7);
+		this.buffer.add(1);
+		this.buffer.truncate(mark);
+		assertEquals(1, this.buffer.size());
+		assertEquals(4, this.buffer.get(0));
+		this.buffer.add(9);
+		assertEquals(2, this.buffer.size());
+		assertEquals(9, this.buffer.get(1));
+	}
+
+	@Test
+	public void clear() {
+		this.buffer.add(4);
+		this.buffer.add(7);
+		this.buffer.clear();
+		assertTrue(this.buffer.isEmpty());
+		assertEquals(0, this.buffer.size());
+	}
+
+}
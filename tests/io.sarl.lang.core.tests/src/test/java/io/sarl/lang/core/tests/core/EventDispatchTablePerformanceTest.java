@@ -0,0 +1,854 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.shadow.com.univocity.parsers.csv.CsvWriter;
+import org.junit.jupiter.params.shadow.com.univocity.parsers.csv.CsvWriterSettings;
+
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventDispatchTable;
+import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;
+
+/**
+ * Ablation benchmark of the two forms of the {@code $evaluateBehaviorGuards} function that are
+ * generated by the SARL compiler: the chain of {@code instanceof} tests, and the {@code switch}
+ * on the cases replied by an {@link EventDispatchTable}. The receivers below reproduce the code that
+ * is generated for an agent with 32 {@code on} clauses. Half of the event types are sub-types of the
+ * other half, so that each event occurrence matches one or two guard evaluators.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@SuppressWarnings("all")
+@DisplayName("EventDispatchTable performances")
+@Tag("unit")
+@Tag("core")
+@Disabled
+public class EventDispatchTablePerformanceTest {
+
+	private static final int NB_EVENTS = 1000000;
+
+	private static final StringWriter output = new StringWriter();
+
+	private static final CsvWriter writer;
+
+	static {
+		writer = new CsvWriter(output, new CsvWriterSettings());
+		writer.writeHeaders("Method", "# Event types", "# Events", "Average (ns/event)", "# Callbacks");
+	}
+
+	@AfterAll
+	public static void shutdownTests() {
+		writer.close();
+		System.out.println(output.toString());
+	}
+
+	private static List<Event> createEvents(int nbTypes) {
+		final List<Event> events = new ArrayList<>();
+		for (int i = 0; i < nbTypes; ++i) {
+			events.add(createEvent(i));
+		}
+		return events;
+	}
+
+	private static Event createEvent(int index) {
+		switch (index) {
+		case 0:
+			return new E00();
+		case 1:
+			return new E01();
+		case 2:
+			return new E02();
+		case 3:
+			return new E03();
+		case 4:
+			return new E04();
+		case 5:
+			return new E05();
+		case 6:
+			return new E06();
+		case 7:
+			return new E07();
+		case 8:
+			return new E08();
+		case 9:
+			return new E09();
+		case 10:
+			return new E10();
+		case 11:
+			return new E11();
+		case 12:
+			return new E12();
+		case 13:
+			return new E13();
+		case 14:
+			return new E14();
+		case 15:
+			return new E15();
+		case 16:
+			return new E16();
+		case 17:
+			return new E17();
+		case 18:
+			return new E18();
+		case 19:
+			return new E19();
+		case 20:
+			return new E20();
+		case 21:
+			return new E21();
+		case 22:
+			return new E22();
+		case 23:
+			return new E23();
+		case 24:
+			return new E24();
+		case 25:
+			return new E25();
+		case 26:
+			return new E26();
+		case 27:
+			return new E27();
+		case 28:
+			return new E28();
+		case 29:
+			return new E29();
+		case 30:
+			return new E30();
+		case 31:
+			return new E31();
+		default:
+			throw new IllegalArgumentException();
+		}
+	}
+
+	private static void run(String method, int nbTypes, IBehaviorGuardEvaluatorReceiver receiver) {
+		final List<Event> events = createEvents(nbTypes);
+		final int nbOccurrences = events.size();
+		final List<Runnable> callbacks = new ArrayList<>();
+		// Warm up
+		for (int i = 0; i < NB_EVENTS; ++i) {
+			receiver.$evaluateBehaviorGuards(events.get(i % nbOccurrences), callbacks);
+			callbacks.clear();
+		}
+		long nbCallbacks = 0;
+		final long start = System.nanoTime();
+		for (int i = 0; i < NB_EVENTS; ++i) {
+			receiver.$evaluateBehaviorGuards(events.get(i % nbOccurrences), callbacks);
+			nbCallbacks += callbacks.size();
+			callbacks.clear();
+		}
+		final long duration = System.nanoTime() - start;
+		writer.writeRow(method, nbTypes, NB_EVENTS, ((double) duration) / NB_EVENTS, nbCallbacks);
+		writer.flush();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 16, 32})
+	@DisplayName("instanceof chain")
+	public void instanceofChain(int nbTypes) {
+		run("instanceof", nbTypes, new InstanceofReceiver());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 16, 32})
+	@DisplayName("switch on dispatch table")
+	public void switchOnDispatchTable(int nbTypes) {
+		run("switch", nbTypes, new SwitchReceiver());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 16, 32})
+	@DisplayName("same number of callbacks")
+	public void sameCallbacks(int nbTypes) {
+		final List<Event> events = createEvents(nbTypes);
+		final InstanceofReceiver receiver1 = new InstanceofReceiver();
+		final SwitchReceiver receiver2 = new SwitchReceiver();
+		for (final Event event : events) {
+			final List<Runnable> callbacks1 = new ArrayList<>();
+			final List<Runnable> callbacks2 = new ArrayList<>();
+			receiver1.$evaluateBehaviorGuards(event, callbacks1);
+			receiver2.$evaluateBehaviorGuards(event, callbacks2);
+			assertEquals(callbacks1, callbacks2);
+		}
+	}
+
+	/** Receiver that contains the guard evaluators.
+	 */
+	private abstract static class AbstractReceiver implements IBehaviorGuardEvaluatorReceiver {
+
+		private static final Runnable handlerE00 = () -> { };
+
+		private static final Runnable handlerE01 = () -> { };
+
+		private static final Runnable handlerE02 = () -> { };
+
+		private static final Runnable handlerE03 = () -> { };
+
+		private static final Runnable handlerE04 = () -> { };
+
+		private static final Runnable handlerE05 = () -> { };
+
+		private static final Runnable handlerE06 = () -> { };
+
+		private static final Runnable handlerE07 = () -> { };
+
+		private static final Runnable handlerE08 = () -> { };
+
+		private static final Runnable handlerE09 = () -> { };
+
+		private static final Runnable handlerE10 = () -> { };
+
+		private static final Runnable handlerE11 = () -> { };
+
+		private static final Runnable handlerE12 = () -> { };
+
+		private static final Runnable handlerE13 = () -> { };
+
+		private static final Runnable handlerE14 = () -> { };
+
+		private static final Runnable handlerE15 = () -> { };
+
+		private static final Runnable handlerE16 = () -> { };
+
+		private static final Runnable handlerE17 = () -> { };
+
+		private static final Runnable handlerE18 = () -> { };
+
+		private static final Runnable handlerE19 = () -> { };
+
+		private static final Runnable handlerE20 = () -> { };
+
+		private static final Runnable handlerE21 = () -> { };
+
+		private static final Runnable handlerE22 = () -> { };
+
+		private static final Runnable handlerE23 = () -> { };
+
+		private static final Runnable handlerE24 = () -> { };
+
+		private static final Runnable handlerE25 = () -> { };
+
+		private static final Runnable handlerE26 = () -> { };
+
+		private static final Runnable handlerE27 = () -> { };
+
+		private static final Runnable handlerE28 = () -> { };
+
+		private static final Runnable handlerE29 = () -> { };
+
+		private static final Runnable handlerE30 = () -> { };
+
+		private static final Runnable handlerE31 = () -> { };
+
+		protected void $guardEvaluator$E00(E00 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE00);
+		}
+
+		protected void $guardEvaluator$E01(E01 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE01);
+		}
+
+		protected void $guardEvaluator$E02(E02 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE02);
+		}
+
+		protected void $guardEvaluator$E03(E03 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE03);
+		}
+
+		protected void $guardEvaluator$E04(E04 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE04);
+		}
+
+		protected void $guardEvaluator$E05(E05 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE05);
+		}
+
+		protected void $guardEvaluator$E06(E06 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE06);
+		}
+
+		protected void $guardEvaluator$E07(E07 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE07);
+		}
+
+		protected void $guardEvaluator$E08(E08 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE08);
+		}
+
+		protected void $guardEvaluator$E09(E09 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE09);
+		}
+
+		protected void $guardEvaluator$E10(E10 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE10);
+		}
+
+		protected void $guardEvaluator$E11(E11 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE11);
+		}
+
+		protected void $guardEvaluator$E12(E12 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE12);
+		}
+
+		protected void $guardEvaluator$E13(E13 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE13);
+		}
+
+		protected void $guardEvaluator$E14(E14 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE14);
+		}
+
+		protected void $guardEvaluator$E15(E15 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE15);
+		}
+
+		protected void $guardEvaluator$E16(E16 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE16);
+		}
+
+		protected void $guardEvaluator$E17(E17 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE17);
+		}
+
+		protected void $guardEvaluator$E18(E18 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE18);
+		}
+
+		protected void $guardEvaluator$E19(E19 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE19);
+		}
+
+		protected void $guardEvaluator$E20(E20 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE20);
+		}
+
+		protected void $guardEvaluator$E21(E21 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE21);
+		}
+
+		protected void $guardEvaluator$E22(E22 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE22);
+		}
+
+		protected void $guardEvaluator$E23(E23 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE23);
+		}
+
+		protected void $guardEvaluator$E24(E24 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE24);
+		}
+
+		protected void $guardEvaluator$E25(E25 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE25);
+		}
+
+		protected void $guardEvaluator$E26(E26 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE26);
+		}
+
+		protected void $guardEvaluator$E27(E27 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE27);
+		}
+
+		protected void $guardEvaluator$E28(E28 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE28);
+		}
+
+		protected void $guardEvaluator$E29(E29 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE29);
+		}
+
+		protected void $guardEvaluator$E30(E30 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE30);
+		}
+
+		protected void $guardEvaluator$E31(E31 occurrence, Collection<Runnable> callbacks) {
+			callbacks.add(handlerE31);
+		}
+
+	}
+
+	/** Receiver with the code that is generated with a chain of {@code instanceof}.
+	 */
+	private static class InstanceofReceiver extends AbstractReceiver {
+
+		@Override
+		public void $evaluateBehaviorGuards(Object event, Collection<Runnable> callbacks) {
+			if (event instanceof E00) {
+				final E00 occurrence = (E00) event;
+				$guardEvaluator$E00(occurrence, callbacks);
+			}
+			if (event instanceof E01) {
+				final E01 occurrence = (E01) event;
+				$guardEvaluator$E01(occurrence, callbacks);
+			}
+			if (event instanceof E02) {
+				final E02 occurrence = (E02) event;
+				$guardEvaluator$E02(occurrence, callbacks);
+			}
+			if (event instanceof E03) {
+				final E03 occurrence = (E03) event;
+				$guardEvaluator$E03(occurrence, callbacks);
+			}
+			if (event instanceof E04) {
+				final E04 occurrence = (E04) event;
+				$guardEvaluator$E04(occurrence, callbacks);
+			}
+			if (event instanceof E05) {
+				final E05 occurrence = (E05) event;
+				$guardEvaluator$E05(occurrence, callbacks);
+			}
+			if (event instanceof E06) {
+				final E06 occurrence = (E06) event;
+				$guardEvaluator$E06(occurrence, callbacks);
+			}
+			if (event instanceof E07) {
+				final E07 occurrence = (E07) event;
+				$guardEvaluator$E07(occurrence, callbacks);
+			}
+			if (event instanceof E08) {
+				final E08 occurrence = (E08) event;
+				$guardEvaluator$E08(occurrence, callbacks);
+			}
+			if (event instanceof E09) {
+				final E09 occurrence = (E09) event;
+				$guardEvaluator$E09(occurrence, callbacks);
+			}
+			if (event instanceof E10) {
+				final E10 occurrence = (E10) event;
+				$guardEvaluator$E10(occurrence, callbacks);
+			}
+			if (event instanceof E11) {
+				final E11 occurrence = (E11) event;
+				$guardEvaluator$E11(occurrence, callbacks);
+			}
+			if (event instanceof E12) {
+				final E12 occurrence = (E12) event;
+				$guardEvaluator$E12(occurrence, callbacks);
+			}
+			if (event instanceof E13) {
+				final E13 occurrence = (E13) event;
+				$guardEvaluator$E13(occurrence, callbacks);
+			}
+			if (event instanceof E14) {
+				final E14 occurrence = (E14) event;
+				$guardEvaluator$E14(occurrence, callbacks);
+			}
+			if (event instanceof E15) {
+				final E15 occurrence = (E15) event;
+				$guardEvaluator$E15(occurrence, callbacks);
+			}
+			if (event instanceof E16) {
+				final E16 occurrence = (E16) event;
+				$guardEvaluator$E16(occurrence, callbacks);
+			}
+			if (event instanceof E17) {
+				final E17 occurrence = (E17) event;
+				$guardEvaluator$E17(occurrence, callbacks);
+			}
+			if (event instanceof E18) {
+				final E18 occurrence = (E18) event;
+				$guardEvaluator$E18(occurrence, callbacks);
+			}
+			if (event instanceof E19) {
+				final E19 occurrence = (E19) event;
+				$guardEvaluator$E19(occurrence, callbacks);
+			}
+			if (event instanceof E20) {
+				final E20 occurrence = (E20) event;
+				$guardEvaluator$E20(occurrence, callbacks);
+			}
+			if (event instanceof E21) {
+				final E21 occurrence = (E21) event;
+				$guardEvaluator$E21(occurrence, callbacks);
+			}
+			if (event instanceof E22) {
+				final E22 occurrence = (E22) event;
+				$guardEvaluator$E22(occurrence, callbacks);
+			}
+			if (event instanceof E23) {
+				final E23 occurrence = (E23) event;
+				$guardEvaluator$E23(occurrence, callbacks);
+			}
+			if (event instanceof E24) {
+				final E24 occurrence = (E24) event;
+				$guardEvaluator$E24(occurrence, callbacks);
+			}
+			if (event instanceof E25) {
+				final E25 occurrence = (E25) event;
+				$guardEvaluator$E25(occurrence, callbacks);
+			}
+			if (event instanceof E26) {
+				final E26 occurrence = (E26) event;
+				$guardEvaluator$E26(occurrence, callbacks);
+			}
+			if (event instanceof E27) {
+				final E27 occurrence = (E27) event;
+				$guardEvaluator$E27(occurrence, callbacks);
+			}
+			if (event instanceof E28) {
+				final E28 occurrence = (E28) event;
+				$guardEvaluator$E28(occurrence, callbacks);
+			}
+			if (event instanceof E29) {
+				final E29 occurrence = (E29) event;
+				$guardEvaluator$E29(occurrence, callbacks);
+			}
+			if (event instanceof E30) {
+				final E30 occurrence = (E30) event;
+				$guardEvaluator$E30(occurrence, callbacks);
+			}
+			if (event instanceof E31) {
+				final E31 occurrence = (E31) event;
+				$guardEvaluator$E31(occurrence, callbacks);
+			}
+		}
+
+	}
+
+	/** Receiver with the code that is generated with a {@code switch}.
+	 */
+	private static class SwitchReceiver extends AbstractReceiver {
+
+		private static final EventDispatchTable $EVENT_DISPATCH_TABLE = new EventDispatchTable(
+				E00.class,
+				E01.class,
+				E02.class,
+				E03.class,
+				E04.class,
+				E05.class,
+				E06.class,
+				E07.class,
+				E08.class,
+				E09.class,
+				E10.class,
+				E11.class,
+				E12.class,
+				E13.class,
+				E14.class,
+				E15.class,
+				E16.class,
+				E17.class,
+				E18.class,
+				E19.class,
+				E20.class,
+				E21.class,
+				E22.class,
+				E23.class,
+				E24.class,
+				E25.class,
+				E26.class,
+				E27.class,
+				E28.class,
+				E29.class,
+				E30.class,
+				E31.class);
+
+		@Override
+		public void $evaluateBehaviorGuards(Object event, Collection<Runnable> callbacks) {
+			if (event != null) {
+				for (final int ___SARLlocal_case : $EVENT_DISPATCH_TABLE.getDispatchCases(event.getClass())) {
+					switch (___SARLlocal_case) {
+					case 0: {
+						final E00 occurrence = (E00) event;
+						$guardEvaluator$E00(occurrence, callbacks);
+						break;
+					}
+					case 1: {
+						final E01 occurrence = (E01) event;
+						$guardEvaluator$E01(occurrence, callbacks);
+						break;
+					}
+					case 2: {
+						final E02 occurrence = (E02) event;
+						$guardEvaluator$E02(occurrence, callbacks);
+						break;
+					}
+					case 3: {
+						final E03 occurrence = (E03) event;
+						$guardEvaluator$E03(occurrence, callbacks);
+						break;
+					}
+					case 4: {
+						final E04 occurrence = (E04) event;
+						$guardEvaluator$E04(occurrence, callbacks);
+						break;
+					}
+					case 5: {
+						final E05 occurrence = (E05) event;
+						$guardEvaluator$E05(occurrence, callbacks);
+						break;
+					}
+					case 6: {
+						final E06 occurrence = (E06) event;
+						$guardEvaluator$E06(occurrence, callbacks);
+						break;
+					}
+					case 7: {
+						final E07 occurrence = (E07) event;
+						$guardEvaluator$E07(occurrence, callbacks);
+						break;
+					}
+					case 8: {
+						final E08 occurrence = (E08) event;
+						$guardEvaluator$E08(occurrence, callbacks);
+						break;
+					}
+					case 9: {
+						final E09 occurrence = (E09) event;
+						$guardEvaluator$E09(occurrence, callbacks);
+						break;
+					}
+					case 10: {
+						final E10 occurrence = (E10) event;
+						$guardEvaluator$E10(occurrence, callbacks);
+						break;
+					}
+					case 11: {
+						final E11 occurrence = (E11) event;
+						$guardEvaluator$E11(occurrence, callbacks);
+						break;
+					}
+					case 12: {
+						final E12 occurrence = (E12) event;
+						$guardEvaluator$E12(occurrence, callbacks);
+						break;
+					}
+					case 13: {
+						final E13 occurrence = (E13) event;
+						$guardEvaluator$E13(occurrence, callbacks);
+						break;
+					}
+					case 14: {
+						final E14 occurrence = (E14) event;
+						$guardEvaluator$E14(occurrence, callbacks);
+						break;
+					}
+					case 15: {
+						final E15 occurrence = (E15) event;
+						$guardEvaluator$E15(occurrence, callbacks);
+						break;
+					}
+					case 16: {
+						final E16 occurrence = (E16) event;
+						$guardEvaluator$E16(occurrence, callbacks);
+						break;
+					}
+					case 17: {
+						final E17 occurrence = (E17) event;
+						$guardEvaluator$E17(occurrence, callbacks);
+						break;
+					}
+					case 18: {
+						final E18 occurrence = (E18) event;
+						$guardEvaluator$E18(occurrence, callbacks);
+						break;
+					}
+					case 19: {
+						final E19 occurrence = (E19) event;
+						$guardEvaluator$E19(occurrence, callbacks);
+						break;
+					}
+					case 20: {
+						final E20 occurrence = (E20) event;
+						$guardEvaluator$E20(occurrence, callbacks);
+						break;
+					}
+					case 21: {
+						final E21 occurrence = (E21) event;
+						$guardEvaluator$E21(occurrence, callbacks);
+						break;
+					}
+					case 22: {
+						final E22 occurrence = (E22) event;
+						$guardEvaluator$E22(occurrence, callbacks);
+						break;
+					}
+					case 23: {
+						final E23 occurrence = (E23) event;
+						$guardEvaluator$E23(occurrence, callbacks);
+						break;
+					}
+					case 24: {
+						final E24 occurrence = (E24) event;
+						$guardEvaluator$E24(occurrence, callbacks);
+						break;
+					}
+					case 25: {
+						final E25 occurrence = (E25) event;
+						$guardEvaluator$E25(occurrence, callbacks);
+						break;
+					}
+					case 26: {
+						final E26 occurrence = (E26) event;
+						$guardEvaluator$E26(occurrence, callbacks);
+						break;
+					}
+					case 27: {
+						final E27 occurrence = (E27) event;
+						$guardEvaluator$E27(occurrence, callbacks);
+						break;
+					}
+					case 28: {
+						final E28 occurrence = (E28) event;
+						$guardEvaluator$E28(occurrence, callbacks);
+						break;
+					}
+					case 29: {
+						final E29 occurrence = (E29) event;
+						$guardEvaluator$E29(occurrence, callbacks);
+						break;
+					}
+					case 30: {
+						final E30 occurrence = (E30) event;
+						$guardEvaluator$E30(occurrence, callbacks);
+						break;
+					}
+					case 31: {
+						final E31 occurrence = (E31) event;
+						$guardEvaluator$E31(occurrence, callbacks);
+						break;
+					}
+					default:
+						break;
+					}
+				}
+			}
+		}
+
+	}
+
+	private static class E00 extends Event {
+	}
+
+	private static class E01 extends Event {
+	}
+
+	private static class E02 extends Event {
+	}
+
+	private static class E03 extends Event {
+	}
+
+	private static class E04 extends Event {
+	}
+
+	private static class E05 extends Event {
+	}
+
+	private static class E06 extends Event {
+	}
+
+	private static class E07 extends Event {
+	}
+
+	private static class E08 extends Event {
+	}
+
+	private static class E09 extends Event {
+	}
+
+	private static class E10 extends Event {
+	}
+
+	private static class E11 extends Event {
+	}
+
+	private static class E12 extends Event {
+	}
+
+	private static class E13 extends Event {
+	}
+
+	private static class E14 extends Event {
+	}
+
+	private static class E15 extends Event {
+	}
+
+	private static class E16 extends E00 {
+	}
+
+	private static class E17 extends E01 {
+	}
+
+	private static class E18 extends E02 {
+	}
+
+	private static class E19 extends E03 {
+	}
+
+	private static class E20 extends E04 {
+	}
+
+	private static class E21 extends E05 {
+	}
+
+	private static class E22 extends E06 {
+	}
+
+	private static class E23 extends E07 {
+	}
+
+	private static class E24 extends E08 {
+	}
+
+	private static class E25 extends E09 {
+	}
+
+	private static class E26 extends E10 {
+	}
+
+	private static class E27 extends E11 {
+	}
+
+	private static class E28 extends E12 {
+	}
+
+	private static class E29 extends E13 {
+	}
+
+	private static class E30 extends E14 {
+	}
+
+	private static class E31 extends E15 {
+	}
+
+}
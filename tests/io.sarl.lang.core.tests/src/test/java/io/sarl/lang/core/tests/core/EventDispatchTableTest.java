@@ -0,0 +1,140 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventDispatchTable;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@SuppressWarnings("all")
+@DisplayName("EventDispatchTable")
+@Tag("unit")
+@Tag("core")
+public class EventDispatchTableTest extends AbstractSarlTest {
+
+	private EventDispatchTable table;
+
+	@BeforeEach
+	public void setUp() {
+		this.table = new EventDispatchTable(Event.class, E1.class, E2.class, E3.class);
+	}
+
+	@Test
+	public void getEventTypeId() {
+		final int id1 = EventDispatchTable.getEventTypeId(E1.class);
+		final int id2 = EventDispatchTable.getEventTypeId(E2.class);
+		assertEquals(id1, EventDispatchTable.getEventTypeId(E1.class));
+		assertEquals(id2, EventDispatchTable.getEventTypeId(E2.class));
+		assertNotEquals(id1, id2);
+	}
+
+	@Test
+	public void getHandledTypeCount() {
+		assertEquals(4, this.table.getHandledTypeCount());
+	}
+
+	@Test
+	public void getDispatchCases_exactType() {
+		assertArrayEquals(new int[] {0, 2}, this.table.getDispatchCases(E2.class));
+	}
+
+	@Test
+	public void getDispatchCases_subType() {
+		assertArrayEquals(new int[] {0, 1, 3}, this.table.getDispatchCases(E3.class));
+		assertArrayEquals(new int[] {0, 1, 3}, this.table.getDispatchCases(E4.class));
+	}
+
+	@Test
+	public void getDispatchCases_unhandledType() {
+		assertArrayEquals(new int[0], this.table.getDispatchCases(Object.class));
+		assertArrayEquals(new int[0], this.table.getDispatchCases(String.class));
+	}
+
+	@Test
+	public void getDispatchCases_cached() {
+		final int[] cases = this.table.getDispatchCases(E1.class);
+		assertArrayEquals(new int[] {0, 1}, cases);
+		// Force the growth of the cache
+		this.table.getDispatchCases(E4.class);
+		assertSame(cases, this.table.getDispatchCases(E1.class));
+	}
+
+	@Test
+	public void getDispatchCases_independentTables() {
+		final EventDispatchTable table2 = new EventDispatchTable(E3.class, E2.class);
+		assertArrayEquals(new int[] {0}, table2.getDispatchCases(E3.class));
+		assertArrayEquals(new int[] {0, 1, 3}, this.table.getDispatchCases(E3.class));
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class E1 extends Event {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class E2 extends Event {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class E3 extends E1 {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class E4 extends E3 {
+	}
+
+}
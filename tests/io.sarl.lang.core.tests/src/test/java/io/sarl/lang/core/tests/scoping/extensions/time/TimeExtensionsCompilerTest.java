@@ -56,6 +56,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 		String expected = multilineString(
 				"package io.sarl.lang.tests.ste;",
 				"",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -67,6 +68,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @Pure",
@@ -103,6 +105,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 		String expected = multilineString(
 				"package io.sarl.lang.tests.ste;",
 				"",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -115,6 +118,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @Pure",
@@ -151,6 +155,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 		String expected = multilineString(
 				"package io.sarl.lang.tests.ste;",
 				"",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -163,6 +168,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @Pure",
@@ -199,6 +205,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 		String expected = multilineString(
 				"package io.sarl.lang.tests.ste;",
 				"",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -211,6 +218,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @Pure",
@@ -247,6 +255,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 		String expected = multilineString(
 				"package io.sarl.lang.tests.ste;",
 				"",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -259,6 +268,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @Pure",
@@ -295,6 +305,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 		String expected = multilineString(
 				"package io.sarl.lang.tests.ste;",
 				"",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -307,6 +318,7 @@ public class TimeExtensionsCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @Pure",
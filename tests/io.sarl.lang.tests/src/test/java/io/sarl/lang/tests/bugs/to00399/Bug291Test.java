@@ -58,6 +58,7 @@ public class Bug291Test extends AbstractSarlTest {
 	private static final String EXPECTED_01 = multilineString(
 			"package io.sarl.lang.tests.bug291;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -69,6 +70,7 @@ public class Bug291Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class S1 extends Skill implements C1 {",
 			"  public int myfct() {",
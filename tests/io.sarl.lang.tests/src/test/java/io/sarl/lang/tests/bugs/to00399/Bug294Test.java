@@ -249,6 +249,7 @@ public class Bug294Test {
 			final String expectedStandardPhysicEnvironment = multilineString(
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -258,6 +259,7 @@ public class Bug294Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class StandardPhysicEnvironment extends Skill implements PhysicEnvironment {",
 					"  @DefaultValueSource",
@@ -155,6 +155,7 @@ public class Bug381Test {
 		public void withSarlSyntaxWithLocalType() throws Exception {
 			final String expected = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -168,6 +169,7 @@ public class Bug381Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @Extension",
@@ -205,6 +207,7 @@ public class Bug381Test {
 		public void withJavaSyntaxWithLocalType() throws Exception {
 			final String expected = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -218,6 +221,7 @@ public class Bug381Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @Extension",
@@ -255,6 +259,7 @@ public class Bug381Test {
 		public void withSarlSyntaxWithJREType() throws Exception {
 			final String expected = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -268,6 +273,7 @@ public class Bug381Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @Extension",
@@ -309,6 +315,7 @@ public class Bug381Test {
 		public void withJavaSyntaxWithJREType() throws Exception {
 			final String expected = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -322,6 +329,7 @@ public class Bug381Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @Extension",
@@ -359,6 +367,7 @@ public class Bug381Test {
 		public void withSarlSyntaxWithoutType() throws Exception {
 			final String expected = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -372,6 +381,7 @@ public class Bug381Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @Extension",
@@ -413,6 +423,7 @@ public class Bug381Test {
 		public void withJavaSyntaxWithoutType() throws Exception {
 			final String expected = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -426,6 +437,7 @@ public class Bug381Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @Extension",
@@ -82,6 +82,7 @@ public class Bug383Test {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -94,6 +95,7 @@ public class Bug383Test {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  /**",
@@ -159,6 +159,7 @@ public class Bug92Test extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -170,6 +171,7 @@ public class Bug92Test extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private double myDouble = 0d;",
@@ -224,6 +226,7 @@ public class Bug92Test extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -236,6 +239,7 @@ public class Bug92Test extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private Double myDouble = Double.valueOf(0d);",
@@ -295,6 +299,7 @@ public class Bug92Test extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -306,6 +311,7 @@ public class Bug92Test extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private double myDouble = 0d;",
@@ -411,6 +417,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"");
 		final String expected2 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -424,6 +431,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class DeviceAgent extends EntityAgent {",
 				"  private Double busTime = Double.valueOf(0d);",
@@ -496,6 +504,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"}",
 				"");
 		final String expected3 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -506,6 +515,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class EntityAgent extends Agent {",
 				"  @SyntheticMember",
@@ -589,6 +599,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"");
 		final String expected2 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -602,6 +613,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class DeviceAgent extends EntityAgent {",
 				"  private double busTime = 0d;",
@@ -669,6 +681,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"}",
 				"");
 		final String expected3 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -679,6 +692,7 @@ public class Bug92Test extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class EntityAgent extends Agent {",
 				"  @SyntheticMember",
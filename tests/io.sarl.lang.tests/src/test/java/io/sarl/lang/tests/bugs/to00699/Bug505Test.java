@@ -311,6 +311,7 @@ public class Bug505Test extends AbstractSarlTest {
 	@Tag("compileToJava")
 	public void snipset5Compilation() throws Exception {
 		final String expected = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -323,6 +324,7 @@ public class Bug505Test extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public abstract class TestAgent extends Agent {",
 				"  private String testString;",
@@ -60,10 +60,12 @@ public class Bug553Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug553;",
 			"",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.scoping.extensions.time.TimeExtensions;",
@@ -75,6 +77,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = MyEvent.class, methods = \"$guardEvaluator$MyEvent\")",
 			"@SuppressWarnings(\"all\")",
 			"public class TestAgent extends Agent {",
 			"  private void $behaviorUnit$MyEvent$0(final MyEvent occurrence) {",
@@ -107,6 +110,31 @@ public class Bug553Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof MyEvent) {",
+			"      final MyEvent occurrence = (MyEvent) event;",
+			"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$MyEvent$0((MyEvent) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
+			"  @SyntheticMember",
 			"  public TestAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
 			"  }",
@@ -75,6 +75,7 @@ public class Bug655Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug655;",
 			"",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -92,6 +93,7 @@ public class Bug655Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class X extends Agent {",
 			"  private final Timer timer = new Timer();",
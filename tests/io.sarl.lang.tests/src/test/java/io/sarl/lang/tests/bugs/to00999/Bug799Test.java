@@ -69,6 +69,7 @@ public class Bug799Test extends AbstractSarlTest {
 			"package foo.bug799;",
 			"",
 			"import foo.bug799.Cap;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -77,6 +78,7 @@ public class Bug799Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class A extends Skill implements Cap {",
 			"  public void act_connectToSimulator(final String address, final int port) {",
@@ -100,6 +102,7 @@ public class Bug799Test extends AbstractSarlTest {
 			"package foo.bug799;",
 			"",
 			"import foo.bug799.Cap;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -108,6 +111,7 @@ public class Bug799Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class B extends Skill implements Cap {",
 			"  public void act_connectToSimulator(final String address, final int port) {",
@@ -80,12 +80,14 @@ public class Bug819Test extends AbstractSarlTest {
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Address;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.core.Scope;",
@@ -100,6 +102,7 @@ public class Bug819Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = Initialize.class, methods = \"$guardEvaluator$Initialize\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent3 extends Agent {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -204,6 +207,31 @@ public class Bug819Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof Initialize) {",
+			"      final Initialize occurrence = (Initialize) event;",
+			"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$Initialize$0((Initialize) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
+			"  @SyntheticMember",
 			"  public Agent3(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
 			"  }",
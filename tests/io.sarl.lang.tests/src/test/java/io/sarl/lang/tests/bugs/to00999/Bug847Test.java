@@ -70,11 +70,13 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -86,6 +88,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = AgentSpawned.class, methods = \"$guardEvaluator$AgentSpawned\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$AgentSpawned$0(final AgentSpawned occurrence) {",
@@ -134,6 +137,31 @@ public class Bug847Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof AgentSpawned) {",
+			"      final AgentSpawned occurrence = (AgentSpawned) event;",
+			"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$AgentSpawned$0((AgentSpawned) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
+			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
 			"  }",
@@ -184,11 +212,13 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -200,6 +230,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = AgentSpawned.class, methods = \"$guardEvaluator$AgentSpawned\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$AgentSpawned$0(final AgentSpawned occurrence) {",
@@ -249,6 +280,31 @@ public class Bug847Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof AgentSpawned) {",
+			"      final AgentSpawned occurrence = (AgentSpawned) event;",
+			"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$AgentSpawned$0((AgentSpawned) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
+			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
 			"  }",
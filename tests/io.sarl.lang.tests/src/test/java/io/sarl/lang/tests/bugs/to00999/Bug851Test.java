@@ -75,10 +75,12 @@ public class Bug851Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug851;",
 			"",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.tests.bug851.Body;",
@@ -92,6 +94,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarArrivedPercept.class, methods = \"$guardEvaluator$CarArrivedPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private Map<UUID, Body> cars;",
@@ -126,6 +129,31 @@ public class Bug851Test extends AbstractSarlTest {
 			"    }",
 			"  }",
 			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof CarArrivedPercept) {",
+			"      final CarArrivedPercept occurrence = (CarArrivedPercept) event;",
+			"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$CarArrivedPercept$0((CarArrivedPercept) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
 			"  @Override",
 			"  @Pure",
 			"  @SyntheticMember",
@@ -177,10 +205,12 @@ public class Bug851Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug851;",
 			"",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.tests.bug851.Body;",
@@ -194,6 +224,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarArrivedPercept.class, methods = \"$guardEvaluator$CarArrivedPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private Map<UUID, Body> cars;",
@@ -233,6 +264,31 @@ public class Bug851Test extends AbstractSarlTest {
 			"    }",
 			"  }",
 			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof CarArrivedPercept) {",
+			"      final CarArrivedPercept occurrence = (CarArrivedPercept) event;",
+			"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$CarArrivedPercept$0((CarArrivedPercept) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
 			"  @Override",
 			"  @Pure",
 			"  @SyntheticMember",
@@ -72,11 +72,13 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.core.Logging;",
 		"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 		"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+		"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 		"import io.sarl.lang.annotation.SarlElementType;",
 		"import io.sarl.lang.annotation.SarlSpecification;",
 		"import io.sarl.lang.annotation.SyntheticMember;",
 		"import io.sarl.lang.core.Agent;",
 		"import io.sarl.lang.core.AtomicSkillReference;",
+		"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 		"import io.sarl.lang.core.DynamicSkillProvider;",
 		"import io.sarl.lang.core.Event;",
 		"import io.sarl.lang.tests.bug861.CommitSuicide;",
@@ -90,6 +92,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import org.eclipse.xtext.xbase.lib.Pure;", "",
 		"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 		"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+		"@PerceptGuardEvaluatorIndex(events = { Initialize.class, CommitSuicide.class, Initialized.class }, methods = { \"$guardEvaluator$Initialize\", \"$guardEvaluator$CommitSuicide\", \"$guardEvaluator$Initialized\" })",
 		"@SuppressWarnings(\"all\")",
 		"public class BootAgent extends Agent {",
 		"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -207,6 +210,45 @@ public class Bug861Test extends AbstractSarlTest {
 		"  }",
 		"  ",
 		"  @SyntheticMember",
+		"  @Override",
+		"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+		"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+		"    if (event instanceof Initialize) {",
+		"      final Initialize occurrence = (Initialize) event;",
+		"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+		"    }",
+		"    if (event instanceof CommitSuicide) {",
+		"      final CommitSuicide occurrence = (CommitSuicide) event;",
+		"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 2);",
+		"    }",
+		"    if (event instanceof Initialized) {",
+		"      final Initialized occurrence = (Initialized) event;",
+		"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+		"    }",
+		"  }",
+		"  ",
+		"  @SyntheticMember",
+		"  @Override",
+		"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+		"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+		"    case 0:",
+		"      $behaviorUnit$Initialize$0((Initialize) event);",
+		"      break;",
+		"    case 1:",
+		"      $behaviorUnit$Initialized$1((Initialized) event);",
+		"      break;",
+		"    case 2:",
+		"      $behaviorUnit$CommitSuicide$2((CommitSuicide) event);",
+		"      break;",
+		"    default:",
+		"      super.$invokeBehaviorUnit(index, event);",
+		"    }",
+		"  }",
+		"  ",
+		"  @SyntheticMember",
+		"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(3);",
+		"  ",
+		"  @SyntheticMember",
 		"  public BootAgent(final UUID arg0, final UUID arg1) {",
 		"    super(arg0, arg1);",
 		"  }",
@@ -229,12 +271,14 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.core.Logging;",
 		"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 		"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+		"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 		"import io.sarl.lang.annotation.SarlElementType;",
 		"import io.sarl.lang.annotation.SarlSpecification;",
 		"import io.sarl.lang.annotation.SyntheticMember;",
 		"import io.sarl.lang.core.Address;",
 		"import io.sarl.lang.core.Agent;",
 		"import io.sarl.lang.core.AtomicSkillReference;",
+		"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 		"import io.sarl.lang.core.DynamicSkillProvider;",
 		"import io.sarl.lang.core.Event;",
 		"import io.sarl.lang.core.Scope;",
@@ -250,6 +294,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import org.eclipse.xtext.xbase.lib.Pure;", "",
 		"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 		"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+		"@PerceptGuardEvaluatorIndex(events = { Initialize.class, CommitSuicide.class }, methods = { \"$guardEvaluator$Initialize\", \"$guardEvaluator$CommitSuicide\" })",
 		"@SuppressWarnings(\"all\")",
 		"public class EmptyAgent extends Agent {",
 		"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -372,6 +417,38 @@ public class Bug861Test extends AbstractSarlTest {
 		"  }",
 		"  ",
 		"  @SyntheticMember",
+		"  @Override",
+		"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+		"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+		"    if (event instanceof Initialize) {",
+		"      final Initialize occurrence = (Initialize) event;",
+		"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+		"    }",
+		"    if (event instanceof CommitSuicide) {",
+		"      final CommitSuicide occurrence = (CommitSuicide) event;",
+		"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+		"    }",
+		"  }",
+		"  ",
+		"  @SyntheticMember",
+		"  @Override",
+		"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+		"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+		"    case 0:",
+		"      $behaviorUnit$Initialize$0((Initialize) event);",
+		"      break;",
+		"    case 1:",
+		"      $behaviorUnit$CommitSuicide$1((CommitSuicide) event);",
+		"      break;",
+		"    default:",
+		"      super.$invokeBehaviorUnit(index, event);",
+		"    }",
+		"  }",
+		"  ",
+		"  @SyntheticMember",
+		"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(2);",
+		"  ",
+		"  @SyntheticMember",
 		"  public EmptyAgent(final UUID arg0, final UUID arg1) {",
 		"    super(arg0, arg1);",
 		"  }",
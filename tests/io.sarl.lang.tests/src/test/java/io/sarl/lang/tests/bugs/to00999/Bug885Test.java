@@ -75,6 +75,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -89,6 +90,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -166,6 +168,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -180,6 +183,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -258,6 +262,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -273,6 +278,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -369,6 +375,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -383,6 +390,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends SuperBoot {",
 			"  protected void f(final Scope<Address> s) {",
@@ -460,6 +468,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -475,6 +484,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -558,6 +568,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -573,6 +584,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -657,6 +669,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -671,6 +684,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends SuperBoot {",
 			"  protected void f(final Scope<Address> s) {",
@@ -751,6 +765,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -765,6 +780,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends SuperBoot {",
 			"  protected void f(final Scope<Address> s) {",
@@ -845,6 +861,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -862,6 +879,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  @Extension",
@@ -960,6 +978,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -976,6 +995,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1057,6 +1077,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1073,6 +1094,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1151,6 +1173,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"import com.google.common.base.Objects;",
 			"import foo.StaticTools;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1165,6 +1188,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1243,6 +1267,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"import com.google.common.base.Objects;",
 			"import foo.StaticTools;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1257,6 +1282,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1334,6 +1360,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1349,6 +1376,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1431,6 +1459,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1445,6 +1474,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1520,6 +1550,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1535,6 +1566,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1617,6 +1649,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1632,6 +1665,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1726,6 +1760,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1741,6 +1776,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -1838,12 +1874,14 @@ public class Bug885Test extends AbstractSarlTest {
 			"import io.sarl.core.DefaultContextInteractions;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Address;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.core.Scope;",
@@ -1859,6 +1897,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = MyEvent.class, methods = \"$guardEvaluator$MyEvent\")",
 			"@SuppressWarnings(\"all\")",
 			"public class MyAgent extends Agent {",
 			"  private void $behaviorUnit$MyEvent$0(final MyEvent occurrence) {",
@@ -1938,6 +1977,33 @@ public class Bug885Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  @Override",
+			"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"    if (event instanceof MyEvent) {",
+			"      final MyEvent occurrence = (MyEvent) event;",
+			"      if ($behaviorUnitGuard$MyEvent$0(occurrence, occurrence)) {",
+			"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"      }",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  @Override",
+			"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"    case 0:",
+			"      $behaviorUnit$MyEvent$0((MyEvent) event);",
+			"      break;",
+			"    default:",
+			"      super.$invokeBehaviorUnit(index, event);",
+			"    }",
+			"  }",
+			"  ",
+			"  @SyntheticMember",
+			"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"  ",
+			"  @SyntheticMember",
 			"  public MyAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
 			"  }",
@@ -1977,6 +2043,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1992,6 +2059,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2096,6 +2164,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2111,6 +2180,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2194,6 +2264,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2209,6 +2280,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2290,6 +2362,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2304,6 +2377,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2377,6 +2451,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2391,6 +2466,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2477,6 +2553,7 @@ public class Bug885Test extends AbstractSarlTest {
 	private static final String EXPECTED_LOCAL_VARIABLE_AS_PARAMETER = multilineString(
 			"package io.sarl.lang.tests.bug885;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2491,6 +2568,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2575,6 +2653,7 @@ public class Bug885Test extends AbstractSarlTest {
 	private static final String EXPECTED_MULTIPLE_CALLS_TO_SAME_FUNCTION = multilineString(
 			"package io.sarl.lang.tests.bug885;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2590,6 +2669,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2674,6 +2754,7 @@ public class Bug885Test extends AbstractSarlTest {
 	private static final String EXPECTED_MULTIPLE_CALLS_TO_SAME_PARAMETER = multilineString(
 			"package io.sarl.lang.tests.bug885;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2689,6 +2770,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -2780,6 +2862,7 @@ public class Bug885Test extends AbstractSarlTest {
 	private static final String EXPECTED_COMPLEX_LAMBDA_01 = multilineString(
 			"package io.sarl.lang.tests.bug885;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2795,6 +2878,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  private int field;",
@@ -2919,6 +3003,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2934,6 +3019,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -3048,6 +3134,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -3064,6 +3151,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -3153,6 +3241,7 @@ public class Bug885Test extends AbstractSarlTest {
 	private static final String EXPECTED_COMPLEX_LAMBDA_04 = multilineString(
 			"package io.sarl.lang.tests.bug885;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -3172,6 +3261,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  @SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
@@ -3306,6 +3396,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug885;",
 			"",
 			"import com.google.common.base.Objects;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -3320,6 +3411,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  protected void f(final Scope<Address> s) {",
@@ -65,6 +65,7 @@ public class Bug943Test extends AbstractSarlTest {
 	private static final String JAVA_CODE_01 = multilineString(
 			"package io.sarl.lang.tests.bug943;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -76,6 +77,7 @@ public class Bug943Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public abstract class X extends Agent {",
 			"  private Object sreKernel;",
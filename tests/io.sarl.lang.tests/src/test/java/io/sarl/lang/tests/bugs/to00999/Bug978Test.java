@@ -66,6 +66,7 @@ public class Bug978Test extends AbstractSarlTest {
 	private static final String JAVA_CODE_01 = multilineString(
 			"package io.sarl.lang.tests.bug978;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;", 
 			"import io.sarl.lang.annotation.SarlSpecification;", 
 			"import io.sarl.lang.annotation.SyntheticMember;", 
@@ -77,6 +78,7 @@ public class Bug978Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class MySkill extends Skill implements MyCapacity {",
 			"  private Integer field0;",
@@ -22,6 +22,8 @@ package io.sarl.lang.tests.general.compilation.aop;
 
 import static io.sarl.tests.api.tools.TestUtils.multilineString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -48,6 +50,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 	public void basicAgentCompile() throws Exception {
 		String source = "agent A1 { }";
 		String expected = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -58,6 +61,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @SyntheticMember",
@@ -106,10 +110,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -119,6 +125,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, methods = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -151,6 +158,31 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof E1) {",
+				"      final E1 occurrence = (E1) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$E1$0((E1) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+				"  ",
+				"  @SyntheticMember",
 				"  public A1(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
 				"  }",
@@ -206,6 +238,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedA1 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -216,6 +249,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  @SyntheticMember",
@@ -315,10 +349,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -329,6 +365,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, methods = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -369,6 +406,33 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof E1) {",
+				"      final E1 occurrence = (E1) event;",
+				"      if ($behaviorUnitGuard$E1$0(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$E1$0((E1) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+				"  ",
+				"  @SyntheticMember",
 				"  public A1(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
 				"  }",
@@ -395,6 +459,60 @@ public class AgentCompilerTest extends AbstractSarlTest {
 		});
 	}
 
+	@Test
+	public void instanceofBasedGuardEvaluation() throws Exception {
+		String source = multilineString(
+				"event E1",
+				"event E2",
+				"event E3 extends E1",
+				"agent A1 {",
+				"  on E1 { }",
+				"  on E2 { }",
+				"  on E3 { }",
+				"}"
+				);
+		getCompileHelper().compile(source, (r) -> {
+			final String code = r.getGeneratedCode("A1");
+			assertTrue(code.contains("if (event instanceof E1) {"));
+			assertTrue(code.contains("if (event instanceof E3) {"));
+			assertFalse(code.contains("$EVENT_DISPATCH_TABLE"));
+			assertFalse(code.contains("switch"));
+		});
+	}
+
+	@Test
+	public void switchBasedGuardEvaluation() throws Exception {
+		String source = multilineString(
+				"event E1",
+				"event E2",
+				"event E3 extends E1",
+				"event E4",
+				"agent A1 {",
+				"  on E1 { }",
+				"  on E2 { }",
+				"  on E3 { }",
+				"  on E4 [ occurrence.source !== null ] { }",
+				"  on E4 { }",
+				"}"
+				);
+		getCompileHelper().compile(source, (r) -> {
+			final String code = r.getGeneratedCode("A1");
+			assertFalse(code.contains("instanceof"));
+			assertTrue(code.contains("import io.sarl.lang.core.EventDispatchTable;"));
+			assertTrue(code.contains("private static final EventDispatchTable $EVENT_DISPATCH_TABLE = new EventDispatchTable("));
+			assertTrue(code.contains("for (final int ___SARLlocal_case : $EVENT_DISPATCH_TABLE.getDispatchCases(event.getClass())) {"));
+			assertTrue(code.contains("switch (___SARLlocal_case) {"));
+			assertTrue(code.contains("case 0: {"));
+			assertTrue(code.contains("final E1 occurrence = (E1) event;"));
+			assertTrue(code.contains("case 3: {"));
+			assertTrue(code.contains("final E4 occurrence = (E4) event;"));
+			assertTrue(code.contains("$guardEvaluator$E4(occurrence, callbacks);"));
+			assertTrue(code.contains("matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 4);"));
+			assertTrue(code.contains("$behaviorUnit$E4$4((E4) event);"));
+			assertFalse(code.contains("case 4: {"));
+		});
+	}
+
 	@Test
 	public void valueVisibility_0() throws Exception {
 		getCompileHelper().assertCompilesTo(
@@ -404,6 +522,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -415,6 +534,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private final int myval = 1;",
@@ -469,6 +589,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -480,6 +601,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private int myval = 1;",
@@ -534,6 +656,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -544,6 +667,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected void myfct() {",
@@ -573,6 +697,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -584,6 +709,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private final int myval = 1;",
@@ -638,6 +764,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -649,6 +776,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private int myval = 1;",
@@ -703,6 +831,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -713,6 +842,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private void myfct() {",
@@ -740,6 +870,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"agent A1 { }"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -750,6 +881,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  @SyntheticMember",
@@ -774,6 +906,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"public agent A1 { }"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -784,6 +917,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  @SyntheticMember",
@@ -808,6 +942,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"package agent A1 { }"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -818,6 +953,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"class A1 extends Agent {",
 						"  @SyntheticMember",
@@ -842,6 +978,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"abstract agent A1 { }"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -852,6 +989,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public abstract class A1 extends Agent {",
 						"  @SyntheticMember",
@@ -878,6 +1016,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -888,6 +1027,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public abstract class A1 extends Agent {",
 						"  protected abstract void fct();",
@@ -914,6 +1054,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"final agent A1 { }"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -924,6 +1065,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public final class A1 extends Agent {",
 						"  @SyntheticMember",
@@ -950,6 +1092,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -961,6 +1104,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private int field;",
@@ -1015,6 +1159,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1026,6 +1171,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  int field;",
@@ -1080,6 +1226,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1091,6 +1238,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected int field;",
@@ -1145,6 +1293,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1156,6 +1305,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private int field;",
@@ -1212,6 +1362,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"}"
 				);
 		final String expectedA1 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1222,6 +1373,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public abstract class A1 extends Agent {",
 				"  protected abstract void name();",
@@ -1240,6 +1392,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedA2 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1249,6 +1402,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A2 extends A1 {",
 				"  @Override",
@@ -1283,6 +1437,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1293,6 +1448,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected void name() {",
@@ -1322,6 +1478,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1332,6 +1489,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  private void name() {",
@@ -1361,6 +1519,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1371,6 +1530,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  void name() {",
@@ -1400,6 +1560,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1410,6 +1571,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected void name() {",
@@ -1439,6 +1601,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1449,6 +1612,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public abstract class A1 extends Agent {",
 						"  protected abstract void name();",
@@ -1477,6 +1641,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1487,6 +1652,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected static void name() {",
@@ -1516,6 +1682,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1526,6 +1693,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected void _name(final Integer a) {",
@@ -1560,6 +1728,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1570,6 +1739,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected final void _name(final Integer a) {",
@@ -1604,6 +1774,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1614,6 +1785,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected final void name() {",
@@ -1643,6 +1815,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"}"
 						),
 				multilineString(
+						"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 						"import io.sarl.lang.annotation.SarlElementType;",
 						"import io.sarl.lang.annotation.SarlSpecification;",
 						"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1653,6 +1826,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 						"",
 						"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 						"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+						"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 						"@SuppressWarnings(\"all\")",
 						"public class A1 extends Agent {",
 						"  protected synchronized void name() {",
@@ -1711,6 +1885,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1724,6 +1899,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  protected void caller() {",
@@ -1802,6 +1978,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1815,6 +1992,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  protected void caller() {",
@@ -1893,6 +2071,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1906,6 +2085,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  protected void caller() {",
@@ -1989,6 +2169,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2002,6 +2183,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  protected void caller() {",
@@ -2091,6 +2273,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2104,6 +2287,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  protected void caller() {",
@@ -2167,10 +2351,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"}");
 		final String expectedMyAgent = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2182,6 +2368,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = Initialize.class, methods = \"$guardEvaluator$Initialize\")",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2238,6 +2425,39 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof Initialize) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"      }",
+				"      if ($behaviorUnitGuard$Initialize$1(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$Initialize$0((Initialize) event);",
+				"      break;",
+				"    case 1:",
+				"      $behaviorUnit$Initialize$1((Initialize) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(2);",
+				"  ",
+				"  @SyntheticMember",
 				"  public MyAgent(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
 				"  }",
@@ -2271,10 +2491,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2284,6 +2506,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, methods = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2331,6 +2554,38 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof Destroy) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+				"    }",
+				"    if (event instanceof Initialize) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$Initialize$0((Initialize) event);",
+				"      break;",
+				"    case 1:",
+				"      $behaviorUnit$Destroy$1((Destroy) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(2);",
+				"  ",
+				"  @SyntheticMember",
 				"  public MyAgent(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
 				"  }",
@@ -2368,10 +2623,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2382,6 +2639,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, methods = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2435,6 +2693,42 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof Destroy) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+				"    }",
+				"    if (event instanceof Initialize) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 2);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$Initialize$0((Initialize) event);",
+				"      break;",
+				"    case 1:",
+				"      $behaviorUnit$Destroy$1((Destroy) event);",
+				"      break;",
+				"    case 2:",
+				"      $behaviorUnit$Initialize$2((Initialize) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(3);",
+				"  ",
+				"  @SyntheticMember",
 				"  public MyAgent(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
 				"  }",
@@ -2473,10 +2767,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2488,6 +2784,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, methods = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private int xxx;",
@@ -2558,6 +2855,46 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    }",
 				"  }",
 				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof Destroy) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+				"    }",
+				"    if (event instanceof Initialize) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"      }",
+				"      if ($behaviorUnitGuard$Initialize$2(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 2);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$Initialize$0((Initialize) event);",
+				"      break;",
+				"    case 1:",
+				"      $behaviorUnit$Destroy$1((Destroy) event);",
+				"      break;",
+				"    case 2:",
+				"      $behaviorUnit$Initialize$2((Initialize) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(3);",
+				"  ",
 				"  @Override",
 				"  @Pure",
 				"  @SyntheticMember",
@@ -2627,10 +2964,12 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2642,6 +2981,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, methods = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private int xxx;",
@@ -2726,6 +3066,52 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    }",
 				"  }",
 				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof Destroy) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 1);",
+				"      if ($behaviorUnitGuard$Destroy$2(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 2);",
+				"      }",
+				"    }",
+				"    if (event instanceof Initialize) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"      }",
+				"      if ($behaviorUnitGuard$Initialize$3(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 3);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$Initialize$0((Initialize) event);",
+				"      break;",
+				"    case 1:",
+				"      $behaviorUnit$Destroy$1((Destroy) event);",
+				"      break;",
+				"    case 2:",
+				"      $behaviorUnit$Destroy$2((Destroy) event);",
+				"      break;",
+				"    case 3:",
+				"      $behaviorUnit$Initialize$3((Initialize) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(4);",
+				"  ",
 				"  @Override",
 				"  @Pure",
 				"  @SyntheticMember",
@@ -2784,6 +3170,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"import foo.test.C1;",
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2797,6 +3184,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  protected void testFct() {",
@@ -2850,6 +3238,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"import foo.test.C1;",
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2863,6 +3252,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  protected void testFct() {",
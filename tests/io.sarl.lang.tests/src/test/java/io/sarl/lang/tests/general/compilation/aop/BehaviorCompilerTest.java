@@ -47,6 +47,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 	public void basicBehaviorCompile() throws Exception {
 		String source = "behavior B1 { }";
 		String expected = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -55,6 +56,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -97,17 +99,20 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedB1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, methods = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -140,6 +145,31 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof E1) {",
+				"      final E1 occurrence = (E1) event;",
+				"      matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$E1$0((E1) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+				"  ",
+				"  @SyntheticMember",
 				"  public B1(final Agent arg0) {",
 				"    super(arg0);",
 				"  }",
@@ -189,6 +219,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedB1 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -197,6 +228,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -290,11 +322,13 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedB1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -302,6 +336,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, methods = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -342,6 +377,33 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+				"    super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+				"    if (event instanceof E1) {",
+				"      final E1 occurrence = (E1) event;",
+				"      if ($behaviorUnitGuard$E1$0(occurrence, occurrence)) {",
+				"        matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $invokeBehaviorUnit(final int index, final Object event) {",
+				"    switch (index - $BEHAVIOR_UNIT_BASE) {",
+				"    case 0:",
+				"      $behaviorUnit$E1$0((E1) event);",
+				"      break;",
+				"    default:",
+				"      super.$invokeBehaviorUnit(index, event);",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+				"  ",
+				"  @SyntheticMember",
 				"  public B1(final Agent arg0) {",
 				"    super(arg0);",
 				"  }",
@@ -371,6 +433,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -380,6 +443,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private final int myval = 1;",
@@ -428,6 +492,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -437,6 +502,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private int myval = 1;",
@@ -485,6 +551,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -493,6 +560,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  public void myfct() {",
@@ -516,6 +584,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -525,6 +594,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private final int myval = 1;",
@@ -573,6 +643,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -582,6 +653,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private int myval = 1;",
@@ -630,6 +702,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -638,6 +711,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private void myfct() {",
@@ -659,6 +733,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"behavior B1 { }"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -667,6 +742,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -685,6 +761,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"public behavior B1 { }"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -693,6 +770,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -711,6 +789,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"package behavior B1 { }"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -719,6 +798,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -737,6 +817,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"abstract behavior B1 { }"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -745,6 +826,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public abstract class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -765,6 +847,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -773,6 +856,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public abstract class B1 extends Behavior {",
 				"  public abstract void fct();",
@@ -793,6 +877,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"final behavior B1 { }"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -801,6 +886,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public final class B1 extends Behavior {",
 				"  @SyntheticMember",
@@ -821,6 +907,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -830,6 +917,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private int field;",
@@ -878,6 +966,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -887,6 +976,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  int field;",
@@ -935,6 +1025,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -944,6 +1035,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  protected int field;",
@@ -992,6 +1084,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1001,6 +1094,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private int field;",
@@ -1051,6 +1145,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			);
 		final String expectedB1 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1059,6 +1154,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public abstract class B1 extends Behavior {",
 				"  public abstract void name();",
@@ -1071,6 +1167,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				""
 			);
 		final String expectedB2 = multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1078,6 +1175,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B2 extends B1 {",
 				"  @Override",
@@ -1106,6 +1204,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1114,6 +1213,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  public void name() {",
@@ -1137,6 +1237,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1145,6 +1246,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private void name() {",
@@ -1168,6 +1270,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1176,6 +1279,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  void name() {",
@@ -1199,6 +1303,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1207,6 +1312,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  protected void name() {",
@@ -1230,6 +1336,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1238,6 +1345,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public abstract class B1 extends Behavior {",
 				"  public abstract void name();",
@@ -1260,6 +1368,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1268,6 +1377,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  public static void name() {",
@@ -1291,6 +1401,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1299,6 +1410,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  public void _name(final Integer a) {",
@@ -1327,6 +1439,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1335,6 +1448,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  public final void name() {",
@@ -1358,6 +1472,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"}"
 			),
 			multilineString(
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1366,6 +1481,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  public synchronized void name() {",
@@ -61,6 +61,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -70,6 +71,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private int field;",
@@ -124,6 +126,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -133,6 +136,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  int field;",
@@ -192,6 +196,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -201,6 +206,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  protected int field;",
@@ -260,6 +266,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -269,6 +276,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private int field;",
@@ -328,6 +336,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -337,6 +346,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public int field;",
@@ -396,6 +406,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -405,6 +416,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private final int field = 5;",
@@ -459,6 +471,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -467,6 +480,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private static int field;",
@@ -500,6 +514,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -509,6 +524,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private transient int field;",
@@ -568,6 +584,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -577,6 +594,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private volatile int field;",
@@ -651,6 +669,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -661,6 +680,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private final int field1 = 5;",
@@ -739,6 +759,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -747,6 +768,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public abstract class S1 extends Skill implements C1 {",
 					"  public abstract void name();",
@@ -764,6 +786,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS2 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -772,6 +795,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S2 extends S1 implements Capacity {",
 					"  @Override",
@@ -805,6 +829,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -813,6 +838,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public void name() {",
@@ -842,6 +868,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -850,6 +877,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public void name() {",
@@ -884,6 +912,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -892,6 +921,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  protected void name() {",
@@ -926,6 +956,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -934,6 +965,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  void name() {",
@@ -968,6 +1000,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -976,6 +1009,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  private void name() {",
@@ -1010,6 +1044,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1018,6 +1053,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public abstract class S1 extends Skill implements C1 {",
 					"  public abstract void name();",
@@ -1046,6 +1082,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1054,6 +1091,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public abstract class S1 extends Skill implements C1 {",
 					"  public abstract void name();",
@@ -1087,6 +1125,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1095,6 +1134,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public void _name(final Integer a) {",
@@ -1134,6 +1174,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1142,6 +1183,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public final void _name(final Integer a) {",
@@ -1181,6 +1223,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1189,6 +1232,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public final void name() {",
@@ -1223,6 +1267,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1231,6 +1276,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public static void name() {",
@@ -1265,6 +1311,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1273,6 +1320,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public synchronized void name() {",
@@ -1367,6 +1415,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1375,6 +1424,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1, C2 {",
 					"  public void myaction1(final int x) {",
@@ -1468,6 +1518,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1477,6 +1528,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  @Pure",
@@ -1497,6 +1549,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS2 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1505,6 +1558,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S2 extends S1 implements C2 {",
 					"  @Pure",
@@ -1594,6 +1648,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1603,6 +1658,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  @Pure",
@@ -1623,6 +1679,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS2 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1631,6 +1688,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S2 extends S1 implements C2 {",
 					"  @Pure",
@@ -1699,6 +1757,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1708,6 +1767,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  @Pure",
@@ -1780,6 +1840,7 @@ public class SkillCompilerTest {
 					""
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1788,6 +1849,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public float myaction(final int a) {",
@@ -1838,6 +1900,7 @@ public class SkillCompilerTest {
 					"skill S1 implements C1 { }"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1846,6 +1909,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  @SyntheticMember",
@@ -1875,6 +1939,7 @@ public class SkillCompilerTest {
 					"public skill S1 implements C1 { }"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1883,6 +1948,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  @SyntheticMember",
@@ -1912,6 +1978,7 @@ public class SkillCompilerTest {
 					"package skill S1 implements C1 { }"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1920,6 +1987,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"class S1 extends Skill implements C1 {",
 					"  @SyntheticMember",
@@ -1949,6 +2017,7 @@ public class SkillCompilerTest {
 					"abstract skill S1 implements C1 { }"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1957,6 +2026,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public abstract class S1 extends Skill implements C1 {",
 					"  @SyntheticMember",
@@ -1988,6 +2058,7 @@ public class SkillCompilerTest {
 					"}"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1996,6 +2067,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public abstract class S1 extends Skill implements C1 {",
 					"  public abstract void name();",
@@ -2027,6 +2099,7 @@ public class SkillCompilerTest {
 					"final skill S1 implements C1 { }"
 					);
 			final String expectedS1 = multilineString(
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2035,6 +2108,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public final class S1 extends Skill implements C1 {",
 					"  @SyntheticMember",
@@ -2147,6 +2221,7 @@ public class SkillCompilerTest {
 					);
 			final String expectedS1 = multilineString(
 					"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2158,6 +2233,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public float myaction(final int a) {",
@@ -2406,6 +2482,7 @@ public class SkillCompilerTest {
 			final String expectedS1 = multilineString(
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2414,6 +2491,7 @@ public class SkillCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class SkillTest extends Skill implements CapTest2 {",
 					"  public void func2(final int a) {",
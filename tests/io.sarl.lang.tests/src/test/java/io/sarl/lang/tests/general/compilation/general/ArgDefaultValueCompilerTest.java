@@ -60,6 +60,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -71,6 +72,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -120,6 +122,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -131,6 +134,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -180,6 +184,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -191,6 +196,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -240,6 +246,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -251,6 +258,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -300,6 +308,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -311,6 +320,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -360,6 +370,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -371,6 +382,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -420,6 +432,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -431,6 +444,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -481,6 +495,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -492,6 +507,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -542,6 +558,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -553,6 +570,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -602,6 +620,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -613,6 +632,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -662,6 +682,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -673,6 +694,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -722,6 +744,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -733,6 +756,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -782,6 +806,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -793,6 +818,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -842,6 +868,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -853,6 +880,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -922,6 +950,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -933,6 +962,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -983,6 +1013,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -994,6 +1025,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -1043,6 +1075,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1054,6 +1087,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -1103,6 +1137,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1114,6 +1149,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -1177,6 +1213,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1188,6 +1225,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -1238,6 +1276,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1249,6 +1288,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class A1 extends Agent {",
 					"  @DefaultValueSource",
@@ -1343,6 +1383,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1351,6 +1392,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1391,6 +1433,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1399,6 +1442,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1439,6 +1483,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1447,6 +1492,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1487,6 +1533,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1495,6 +1542,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1535,6 +1583,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1543,6 +1592,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1583,6 +1633,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1591,6 +1642,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1631,6 +1683,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1639,6 +1692,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1679,6 +1733,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1687,6 +1742,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1727,6 +1783,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1735,6 +1792,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1775,6 +1833,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1783,6 +1842,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1823,6 +1883,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1831,6 +1892,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1871,6 +1933,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1879,6 +1942,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1919,6 +1983,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1927,6 +1992,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -1986,6 +2052,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -1994,6 +2061,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -2034,6 +2102,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -2042,6 +2111,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -2082,6 +2152,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -2090,6 +2161,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -2143,6 +2215,7 @@ public class ArgDefaultValueCompilerTest {
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
 					"import io.sarl.lang.annotation.DefaultValueUse;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSourceCode;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
@@ -2151,6 +2224,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class B1 extends Behavior {",
 					"  @DefaultValueSource",
@@ -2427,6 +2501,7 @@ public class ArgDefaultValueCompilerTest {
 			final String expectedS1 = multilineString(
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2435,6 +2510,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1 {",
 					"  public void capAction() {",
@@ -2596,6 +2672,7 @@ public class ArgDefaultValueCompilerTest {
 			final String expectedS1 = multilineString(
 					"import io.sarl.lang.annotation.DefaultValue;",
 					"import io.sarl.lang.annotation.DefaultValueSource;",
+					"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 					"import io.sarl.lang.annotation.SarlElementType;",
 					"import io.sarl.lang.annotation.SarlSpecification;",
 					"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2604,6 +2681,7 @@ public class ArgDefaultValueCompilerTest {
 					"",
 					"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 					"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+					"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 					"@SuppressWarnings(\"all\")",
 					"public class S1 extends Skill implements C1, C2 {",
 					"  @DefaultValueSource",
@@ -58,6 +58,7 @@ public abstract class AbstractBatchCompilerTest extends AbstractSarlTest {
 	private static final String JAVA_CODE = multilineString(
 			"package io.sarl.lang.tests.compiler.batch;",
 			"",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -69,6 +70,7 @@ public abstract class AbstractBatchCompilerTest extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class MyTestAgent extends Agent {",
 			"  @Pure",
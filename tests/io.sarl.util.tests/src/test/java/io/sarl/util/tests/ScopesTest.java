@@ -0,0 +1,137 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.util.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.EventSpaceSpecification;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.util.IdentifierScope;
+import io.sarl.util.Scopes;
+
+/**
+ * @author $Author: sgalland$
+ * @version $Name$ $Revision$ $Date$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("Scopes")
+@Tag("api")
+@Tag("unit")
+public class ScopesTest {
+
+	private SpaceID spaceId;
+
+	private UUID id1;
+
+	private UUID id2;
+
+	private UUID id3;
+
+	@BeforeEach
+	public void setUp() {
+		this.spaceId = new SpaceID(UUID.randomUUID(), UUID.randomUUID(), EventSpaceSpecification.class);
+		this.id1 = UUID.randomUUID();
+		this.id2 = UUID.randomUUID();
+		this.id3 = UUID.randomUUID();
+	}
+
+	@Test
+	public void identifiers_single() {
+		IdentifierScope scope = Scopes.identifiers(this.id1);
+		assertEquals(1, scope.getIdentifiers().size());
+		assertTrue(scope.getIdentifiers().contains(this.id1));
+		assertTrue(scope.matches(new Address(this.spaceId, this.id1)));
+		assertFalse(scope.matches(new Address(this.spaceId, this.id2)));
+	}
+
+	@Test
+	public void identifiers_multiple() {
+		IdentifierScope scope = Scopes.identifiers(this.id1, this.id2);
+		assertEquals(2, scope.getIdentifiers().size());
+		assertTrue(scope.matches(new Address(this.spaceId, this.id1)));
+		assertTrue(scope.matches(new Address(this.spaceId, this.id2)));
+		assertFalse(scope.matches(new Address(this.spaceId, this.id3)));
+	}
+
+	@Test
+	public void identifiers_collection() {
+		IdentifierScope scope = Scopes.identifiers(Arrays.asList(this.id1, this.id2));
+		assertEquals(2, scope.getIdentifiers().size());
+		assertTrue(scope.matches(new Address(this.spaceId, this.id1)));
+		assertTrue(scope.matches(new Address(this.spaceId, this.id2)));
+		assertFalse(scope.matches(new Address(this.spaceId, this.id3)));
+	}
+
+	@Test
+	public void addresses() {
+		IdentifierScope scope = Scopes.addresses(new Address(this.spaceId, this.id1), new Address(this.spaceId, this.id3));
+		assertEquals(2, scope.getIdentifiers().size());
+		assertTrue(scope.matches(new Address(this.spaceId, this.id1)));
+		assertFalse(scope.matches(new Address(this.spaceId, this.id2)));
+		assertTrue(scope.matches(new Address(this.spaceId, this.id3)));
+	}
+
+	@Test
+	public void identifiers_anySpace() {
+		IdentifierScope scope = Scopes.identifiers(this.id1);
+		assertNull(scope.getSpaceID());
+		SpaceID otherSpace = new SpaceID(UUID.randomUUID(), UUID.randomUUID(), EventSpaceSpecification.class);
+		assertTrue(scope.matches(new Address(otherSpace, this.id1)));
+	}
+
+	@Test
+	public void addresses_otherSpace() {
+		IdentifierScope scope = Scopes.addresses(new Address(this.spaceId, this.id1));
+		assertEquals(this.spaceId, scope.getSpaceID());
+		SpaceID otherSpace = new SpaceID(UUID.randomUUID(), UUID.randomUUID(), EventSpaceSpecification.class);
+		assertFalse(scope.matches(new Address(otherSpace, this.id1)));
+	}
+
+	@Test
+	public void addresses_severalSpaces() {
+		SpaceID otherSpace = new SpaceID(UUID.randomUUID(), UUID.randomUUID(), EventSpaceSpecification.class);
+		assertThrows(IllegalArgumentException.class,
+				() -> Scopes.addresses(new Address(this.spaceId, this.id1), new Address(otherSpace, this.id2)));
+	}
+
+	@Test
+	public void getIdentifiers_unmodifiable() {
+		IdentifierScope scope = Scopes.identifiers(this.id1, this.id2);
+		assertThrows(UnsupportedOperationException.class, () -> scope.getIdentifiers().add(this.id3));
+		assertFalse(scope.matches(new Address(this.spaceId, this.id3)));
+	}
+
+}
@@ -63,6 +63,7 @@ public class Bug504Test extends AbstractMojoTest {
 				"",
 				"import io.sarl.elevatorsim.SimulatorPush;",
 				"import io.sarl.elevatorsim.events.SendCarAction;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -73,6 +74,7 @@ public class Bug504Test extends AbstractMojoTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+				"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 				"@SuppressWarnings(\"all\")",
 				"public class SimulatorInteraction extends Skill implements SimulatorPush {",
 				"  public void sendCar(final int a, final int b, final int c, final Object d, final Object e) {",
@@ -48,6 +48,7 @@ public class Bug799Test extends AbstractMojoTest {
 
 	private static final String EXPECTED_A = multilineString(
 			"package io.sarl.maven.bug799;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -56,6 +57,7 @@ public class Bug799Test extends AbstractMojoTest {
 			"import io.sarl.maven.bug799.Cap;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_SKILL + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class A extends Skill implements Cap {",
 			"public void act_connectToSimulator(final String address, final int port) {",
@@ -60,10 +60,12 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT1 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -73,6 +75,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, methods = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent1 extends Agent {",
 			"protected void reportMessage(final String a, final Object... b) {",
@@ -103,6 +106,28 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"}",
 			"@SyntheticMember",
+			"@Override",
+			"public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"if (event instanceof CarRequestPercept) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"@Override",
+			"public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"case 0:",
+			"$behaviorUnit$CarRequestPercept$0((CarRequestPercept) event);",
+			"break;",
+			"default:",
+			"super.$invokeBehaviorUnit(index, event);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"@SyntheticMember",
 			"public Agent1(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
 			"}",
@@ -128,10 +153,12 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT2 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -142,6 +169,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, methods = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent2 extends Agent {",
 			"protected void reportMessage(final String a, final Object... b) {",
@@ -173,6 +201,28 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"}",
 			"@SyntheticMember",
+			"@Override",
+			"public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"if (event instanceof CarRequestPercept) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"@Override",
+			"public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"case 0:",
+			"$behaviorUnit$CarRequestPercept$0((CarRequestPercept) event);",
+			"break;",
+			"default:",
+			"super.$invokeBehaviorUnit(index, event);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"@SyntheticMember",
 			"public Agent2(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
 			"}",
@@ -199,10 +249,12 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT3 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -212,6 +264,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, methods = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent3 extends Agent {",
 			"protected void prologAssert(final String a, final int b, final String c) {",
@@ -242,6 +295,28 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"}",
 			"@SyntheticMember",
+			"@Override",
+			"public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"if (event instanceof CarRequestPercept) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"@Override",
+			"public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"case 0:",
+			"$behaviorUnit$CarRequestPercept$0((CarRequestPercept) event);",
+			"break;",
+			"default:",
+			"super.$invokeBehaviorUnit(index, event);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"@SyntheticMember",
 			"public Agent3(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
 			"}",
@@ -267,10 +342,12 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT4 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitIndexBuffer;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -280,6 +357,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, methods = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent4 extends Agent {",
 			"protected void prologAssert(final String a, final int b, final String c) {",
@@ -311,6 +389,28 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"}",
 			"@SyntheticMember",
+			"@Override",
+			"public void $evaluateBehaviorGuards(final Object event, final BehaviorUnitIndexBuffer matchingBehaviorUnits) {",
+			"super.$evaluateBehaviorGuards(event, matchingBehaviorUnits);",
+			"if (event instanceof CarRequestPercept) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"matchingBehaviorUnits.add($BEHAVIOR_UNIT_BASE + 0);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"@Override",
+			"public void $invokeBehaviorUnit(final int index, final Object event) {",
+			"switch (index - $BEHAVIOR_UNIT_BASE) {",
+			"case 0:",
+			"$behaviorUnit$CarRequestPercept$0((CarRequestPercept) event);",
+			"break;",
+			"default:",
+			"super.$invokeBehaviorUnit(index, event);",
+			"}",
+			"}",
+			"@SyntheticMember",
+			"private static final int $BEHAVIOR_UNIT_BASE = BehaviorUnitIndexBuffer.reserveIndexes(1);",
+			"@SyntheticMember",
 			"public Agent4(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
 			"}",
@@ -60,6 +60,7 @@ public class Bug865Test extends AbstractMojoTest {
 	private static final String EXPECTED_MYAGENT = multilineString(
 			"package io.sarl.maven.bug865;",
 			"import com.google.common.primitives.Booleans;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -71,6 +72,7 @@ public class Bug865Test extends AbstractMojoTest {
 			"import org.eclipse.xtext.xbase.lib.Pure;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = {}, methods = {})",
 			"@SuppressWarnings(\"all\")",
 			"public class MyAgent extends Agent {",
 			"@Pure",